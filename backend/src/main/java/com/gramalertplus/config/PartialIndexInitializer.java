@@ -0,0 +1,26 @@
+// In backend/src/main/java/com/gramalertplus/config/PartialIndexInitializer.java
+package com.gramalertplus.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Indexes ddl-auto can't create because @Index has no WHERE clause. Kept identical to schema.sql.
+// The escalation scheduler only ever looks at unresolved grievances, so its index leaves resolved history out;
+// the full index earlier versions declared on the entity is dropped.
+@Component
+@Order(0)
+public class PartialIndexInitializer implements CommandLineRunner {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_grievances_pending_deadline "
+                + "ON grievances(escalation_level, deadline) WHERE status <> 'Resolved'");
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_grievances_level_deadline");
+    }
+}
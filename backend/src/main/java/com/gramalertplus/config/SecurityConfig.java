@@ -1,6 +1,7 @@
 package com.gramalertplus.config;
 
 import com.gramalertplus.security.JwtRequestFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -48,18 +49,25 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
+                // Streaming responses finish on an async dispatch; the original request was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Publicly accessible endpoints
                 .requestMatchers("/auth/login", "/auth/register").permitAll()
                 .requestMatchers(HttpMethod.GET, "/uploads/**").permitAll()
+                .requestMatchers(HttpMethod.HEAD, "/uploads/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/alerts").permitAll()
                 
               
                 .requestMatchers("/api/users/**").hasAuthority("ADMIN")
+                .requestMatchers("/api/websocket/**").hasAuthority("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/alerts").hasAuthority("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/alerts/**").hasAuthority("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/alerts/**").hasAuthority("ADMIN")
                 .requestMatchers(HttpMethod.PATCH, "/grievances/**").hasAuthority("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/grievances/**").hasAuthority("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/grievances/import").hasAuthority("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/grievances/image-variants/backfill").hasAuthority("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/grievances/export").hasAuthority("ADMIN")
 
                 
                 .requestMatchers("/grievances/my-requests").hasAuthority("VILLAGER")
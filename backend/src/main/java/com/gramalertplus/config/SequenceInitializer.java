@@ -0,0 +1,41 @@
+// In backend/src/main/java/com/gramalertplus/config/SequenceInitializer.java
+package com.gramalertplus.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Ids now come from pooled sequences (allocationSize = 50) instead of identity columns, so Hibernate can
+// batch inserts. Databases created before the switch already have rows, so move each sequence past the
+// current max id before anything is inserted. Runs ahead of DataLoader.
+@Component
+@Order(0)
+public class SequenceInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SequenceInitializer.class);
+
+    private static final String[][] SEQUENCES = {
+        {"users", "users_seq"},
+        {"grievances", "grievances_seq"},
+        {"alerts", "alerts_seq"},
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        for (String[] entry : SEQUENCES) {
+            String table = entry[0], sequence = entry[1];
+            // Hibernate's pooled optimizer hands out (value - 49 .. value), so stay a full block above max(id)
+            Long value = jdbcTemplate.queryForObject(
+                    "SELECT setval('" + sequence + "', GREATEST((SELECT COALESCE(MAX(id), 0) FROM " + table + ") + 50, " +
+                    "(SELECT last_value FROM " + sequence + ")))", Long.class);
+            logger.debug("Sequence {} positioned at {}", sequence, value);
+        }
+    }
+}
@@ -10,12 +10,16 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import java.security.Principal;
+
 @Component
 public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
@@ -45,6 +49,40 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
                 }
             }
         }
+
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            checkSubscription(accessor.getDestination(), accessor.getUser());
+        }
         return message;
     }
+
+    // /topic/admin/** carries full grievance and alert data: admins only. Per-user queues must be reached
+    // through /user/queue/..., which resolves to the subscriber's own sessions, never by their raw name.
+    // The simple broker matches subscriptions as path patterns, so "/topic/**" would receive admin traffic
+    // too: no client needs wildcards, and none may use them.
+    private void checkSubscription(String destination, Principal user) {
+        if (destination == null) {
+            return;
+        }
+        if (isPattern(destination)) {
+            throw new AccessDeniedException("Wildcard subscriptions are not allowed: " + destination);
+        }
+        if (destination.equals("/queue") || destination.startsWith("/queue/")) {
+            throw new AccessDeniedException("Subscribe to /user" + destination + " instead.");
+        }
+        if ((destination.equals("/topic/admin") || destination.startsWith("/topic/admin/")) && !isAdmin(user)) {
+            throw new AccessDeniedException("Only admins can subscribe to " + destination);
+        }
+    }
+
+    // Anything AntPathMatcher would treat as a pattern
+    private static boolean isPattern(String destination) {
+        return destination.indexOf('*') >= 0 || destination.indexOf('?') >= 0 || destination.indexOf('{') >= 0;
+    }
+
+    // False without a principal: an unauthenticated connection is never an admin
+    private static boolean isAdmin(Principal user) {
+        return user instanceof Authentication authentication
+                && authentication.getAuthorities().stream().anyMatch(a -> "ADMIN".equals(a.getAuthority()));
+    }
 }
\ No newline at end of file
@@ -2,7 +2,9 @@
 
 package com.gramalertplus.config;
 
+import com.gramalertplus.websocket.OutboundQueueManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -11,6 +13,7 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -20,10 +23,36 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Autowired
     private WebSocketAuthInterceptor authInterceptor;
 
+    @Autowired
+    private OutboundQueueManager outboundQueueManager;
+
+    // false falls back to Spring's default per-session send buffering
+    @Value("${websocket.outbound.bounded:true}")
+    private boolean boundedOutbound;
+
+    @Value("${websocket.broker.fanout-threads:1}")
+    private int fanoutThreads;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        // /queue carries per-session deliveries (/user/queue/...), e.g. geo-targeted alerts
+        config.enableSimpleBroker("/topic", "/queue");
         config.setApplicationDestinationPrefixes("/app");
+        config.setUserDestinationPrefix("/user");
+        // Broker fan-out runs on its own pool instead of the thread that called convertAndSend.
+        // One thread by default so messages are fanned out in publish order.
+        config.configureBrokerChannel().taskExecutor()
+                .corePoolSize(fanoutThreads)
+                .maxPoolSize(fanoutThreads);
+        // Keeps per-session order while clientOutboundChannel hands frames to the session queues in parallel
+        config.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        if (boundedOutbound) {
+            registration.addDecoratorFactory(outboundQueueManager);
+        }
     }
 
     @Override
@@ -0,0 +1,23 @@
+// In backend/src/main/java/com/gramalertplus/controller/AlertSubscriptionController.java
+package com.gramalertplus.controller;
+
+import com.gramalertplus.dto.SubscriberLocationDto;
+import com.gramalertplus.service.AlertFanout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+@Controller
+public class AlertSubscriptionController {
+
+    @Autowired
+    private AlertFanout alertFanout;
+
+    // Clients send their location to /app/alerts/location after connecting (and again when it changes)
+    // to receive the geo-targeted alerts covering it on /user/queue/alerts.
+    @MessageMapping("/alerts/location")
+    public void registerLocation(SubscriberLocationDto location, SimpMessageHeaderAccessor headers) {
+        alertFanout.register(headers.getSessionId(), location.latitude(), location.longitude());
+    }
+}
@@ -3,14 +3,20 @@ package com.gramalertplus.controller;
 
 import com.gramalertplus.dto.AlertDto;
 import com.gramalertplus.entity.User;
+import com.gramalertplus.service.ActiveAlertStore;
 import com.gramalertplus.service.AlertService;
+import com.gramalertplus.service.CollectionVersions;
+import com.gramalertplus.service.SerializedResponseCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/alerts")
@@ -19,24 +25,65 @@ public class AlertsController {
     @Autowired
     private AlertService alertService;
 
+    @Autowired
+    private ActiveAlertStore activeAlertStore;
+
+    @Autowired
+    private CollectionVersions versions;
+
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    // scope=current (default): active + upcoming, served from memory. scope=active / scope=upcoming narrow that.
+    // scope=all also returns expired alerts and reads the database; meant for the admin dashboard.
+    // Bodies are served pre-encoded from SerializedResponseCache until an alert is written or one starts/ends.
+    // The ETag comes from the same version counters, so an unchanged poll is a 304 without building anything.
     @GetMapping
-    public ResponseEntity<List<AlertDto>> getAllAlerts() {
-        return ResponseEntity.ok(alertService.getAllAlerts());
+    public ResponseEntity<byte[]> getAlerts(@RequestParam(value = "scope", defaultValue = "current") String scope,
+                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Supplier<List<AlertDto>> loader;
+        switch (scope) {
+            case "current": loader = alertService::getCurrentAlerts; break;
+            case "active": loader = alertService::getActiveAlerts; break;
+            case "upcoming": loader = alertService::getUpcomingAlerts; break;
+            case "all": loader = alertService::getAllAlerts; break;
+            default: return ResponseEntity.badRequest().build();
+        }
+        long version = versions.alerts();
+        // Only the time-windowed scopes change by themselves as alerts start and end
+        boolean windowed = !"all".equals(scope);
+        String etag = CachedResponses.representationTag(windowed
+                ? versions.tag("alerts", scope, version, activeAlertStore.lastTransition())
+                : versions.tag("alerts", scope, version), acceptEncoding);
+        if (CachedResponses.notModified(ifNoneMatch, etag)) {
+            return CachedResponses.notModifiedResponse(etag, false);
+        }
+        LocalDateTime validUntil = windowed ? activeAlertStore.nextTransition() : null;
+        return CachedResponses.ok(responseCache.get("alerts:" + scope, version, validUntil, loader), acceptEncoding, etag, false);
     }
 
     // highlight-start
     @PostMapping
-    public ResponseEntity<AlertDto> createAlert(@RequestBody AlertDto alertDto, Authentication authentication) {
+    public ResponseEntity<?> createAlert(@RequestBody AlertDto alertDto, Authentication authentication) {
         // This is a more reliable way to get the full User object from the security context
         User adminUser = (User) authentication.getPrincipal();
-        return ResponseEntity.ok(alertService.createAlert(alertDto, adminUser.getId()));
+        try {
+            return ResponseEntity.ok(alertService.createAlert(alertDto, adminUser.getId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
     // highlight-end
 
     @PutMapping("/{id}")
-    public ResponseEntity<AlertDto> updateAlert(@PathVariable Long id, @RequestBody AlertDto alertDto) {
-        AlertDto updatedAlert = alertService.updateAlert(id, alertDto);
-        return ResponseEntity.ok(updatedAlert);
+    public ResponseEntity<?> updateAlert(@PathVariable Long id, @RequestBody AlertDto alertDto) {
+        try {
+            AlertDto updatedAlert = alertService.updateAlert(id, alertDto);
+            return ResponseEntity.ok(updatedAlert);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @DeleteMapping("/{id}")
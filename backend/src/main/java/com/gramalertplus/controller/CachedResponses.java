@@ -0,0 +1,64 @@
+// In backend/src/main/java/com/gramalertplus/controller/CachedResponses.java
+package com.gramalertplus.controller;
+
+import com.gramalertplus.service.SerializedResponseCache;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+// Response helpers for versioned read endpoints: 304s for matching If-None-Match, and pre-encoded bodies
+// from SerializedResponseCache (gzip-compressed when the client accepts it). Clients must revalidate on
+// every use ("no-cache"), which is what lets a poll that finds nothing new end in a 304. The gzip and identity
+// bodies are different representations, so they get different strong tags: see representationTag.
+final class CachedResponses {
+
+    private CachedResponses() {}
+
+    // The tag for the body ok() will send: a strong ETag may not be shared across content codings
+    static String representationTag(String etag, String acceptEncoding) {
+        return acceptsGzip(acceptEncoding) ? etag.substring(0, etag.length() - 1) + "-gz\"" : etag;
+    }
+
+    // If-None-Match uses weak comparison, so W/"x" matches "x"
+    static boolean notModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static <T> ResponseEntity<T> notModifiedResponse(String etag, boolean isPrivate) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl(isPrivate)).build();
+    }
+
+    static ResponseEntity.BodyBuilder okWithTag(String etag, boolean isPrivate) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl(isPrivate));
+    }
+
+    // etag must come from representationTag with the same acceptEncoding
+    static ResponseEntity<byte[]> ok(SerializedResponseCache.Body body, String acceptEncoding, String etag, boolean isPrivate) {
+        ResponseEntity.BodyBuilder response = okWithTag(etag, isPrivate)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return response.body(body.json());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private static CacheControl cacheControl(boolean isPrivate) {
+        return isPrivate ? CacheControl.noCache().cachePrivate() : CacheControl.noCache();
+    }
+}
@@ -1,13 +1,38 @@
 package com.gramalertplus.controller;
 
+import com.gramalertplus.dto.GrievanceChangesDto;
 import com.gramalertplus.dto.GrievanceDto;
+import com.gramalertplus.dto.GrievanceFilter;
+import com.gramalertplus.dto.GrievanceStatsDto;
+import com.gramalertplus.dto.ImportResultDto;
+import com.gramalertplus.dto.MapTileDto;
+import com.gramalertplus.dto.SlaReportDto;
+import com.gramalertplus.dto.StatusUpdateDto;
+import com.gramalertplus.maps.MapsService;
+import com.gramalertplus.service.CollectionVersions;
+import com.gramalertplus.service.GrievanceExportService;
+import com.gramalertplus.service.GrievanceImportService;
 import com.gramalertplus.service.GrievanceService;
+import com.gramalertplus.service.GrievanceStatsService;
+import com.gramalertplus.service.GrievanceSyncService;
+import com.gramalertplus.service.ImageVariantService;
+import com.gramalertplus.service.SerializedResponseCache;
+import com.gramalertplus.service.SlaAnalyticsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -15,17 +40,161 @@ import java.util.Map;
 @RequestMapping("/grievances")
 public class GrievanceController {
 
+    private static final int MAX_BULK_UPDATES = 1000;
+
     @Autowired
     private GrievanceService grievanceService;
 
+    @Autowired
+    private GrievanceImportService importService;
+
+    @Autowired
+    private GrievanceExportService exportService;
+
+    @Autowired
+    private GrievanceSyncService syncService;
+
+    @Autowired
+    private MapsService mapsService;
+
+    @Autowired
+    private CollectionVersions versions;
+
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    @Autowired
+    private GrievanceStatsService statsService;
+
+    @Autowired
+    private SlaAnalyticsService slaAnalyticsService;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
     @GetMapping
-    public ResponseEntity<List<GrievanceDto>> getAllGrievances() {
-        return ResponseEntity.ok(grievanceService.getAllGrievances());
+    public ResponseEntity<byte[]> getAllGrievances(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long version = versions.grievances();
+        String etag = CachedResponses.representationTag(versions.tag("grievances", version), acceptEncoding);
+        if (CachedResponses.notModified(ifNoneMatch, etag)) {
+            return CachedResponses.notModifiedResponse(etag, true);
+        }
+        return CachedResponses.ok(responseCache.get("grievances:all", version, null,
+                grievanceService::getAllGrievances), acceptEncoding, etag, true);
     }
     
+    // Cursor-paginated listing for dashboards. Pass the returned nextCursor back as "cursor" to get the next page.
+    // The first page of the unfiltered and per-category listings is served pre-encoded until a grievance changes.
+    @GetMapping("/page")
+    public ResponseEntity<?> getGrievancePage(
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "priority", required = false) String priority,
+            @RequestParam(value = "overdue", required = false) Boolean overdue,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        GrievanceFilter filter = new GrievanceFilter(status, category, priority, overdue, from, to);
+        if (cursor == null && size == null && status == null && priority == null && overdue == null && from == null && to == null) {
+            long version = versions.grievances();
+            // The body differs per category, so the tag does too
+            String etag = CachedResponses.representationTag(
+                    versions.tag("grievances", "page", category != null ? category : "", version), acceptEncoding);
+            if (CachedResponses.notModified(ifNoneMatch, etag)) {
+                return CachedResponses.notModifiedResponse(etag, true);
+            }
+            return CachedResponses.ok(responseCache.get("grievances:page:" + (category != null ? category : ""),
+                    version, null, () -> grievanceService.getGrievancePage(filter, null, null)), acceptEncoding, etag, true);
+        }
+        try {
+            return ResponseEntity.ok(grievanceService.getGrievancePage(filter, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Delta sync: rows created/updated and ids deleted after "since". Omit "since" for a full snapshot.
+    // 410 Gone means the cursor is too old to trust and the client should reload everything.
+    @GetMapping("/changes")
+    public ResponseEntity<GrievanceChangesDto> getChanges(
+            @RequestParam(value = "since", required = false) String since,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(syncService.getChanges(since, size));
+        } catch (GrievanceSyncService.CursorExpiredException e) {
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Report download: every grievance matching the listing filters, streamed as NDJSON (default) or CSV.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportGrievances(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "priority", required = false) String priority,
+            @RequestParam(value = "overdue", required = false) Boolean overdue,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        GrievanceExportService.Format exportFormat;
+        MediaType contentType;
+        if ("csv".equalsIgnoreCase(format)) {
+            exportFormat = GrievanceExportService.Format.CSV;
+            contentType = new MediaType("text", "csv", StandardCharsets.UTF_8);
+        } else if ("ndjson".equalsIgnoreCase(format)) {
+            exportFormat = GrievanceExportService.Format.NDJSON;
+            contentType = MediaType.parseMediaType("application/x-ndjson");
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+        GrievanceFilter filter = new GrievanceFilter(status, category, priority, overdue, from, to);
+        StreamingResponseBody body = out -> exportService.export(filter, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"grievances." + format.toLowerCase() + "\"")
+                .body(body);
+    }
+
+    // Dashboard totals served from in-memory counters; never touches the grievances table.
+    @GetMapping("/stats")
+    public ResponseEntity<GrievanceStatsDto> getStats() {
+        return ResponseEntity.ok(statsService.getStats());
+    }
+
+    // Resolution-time percentiles (p50/p90/p99) overall, per category and per escalation level.
+    @GetMapping("/sla")
+    public ResponseEntity<SlaReportDto> getSlaReport() {
+        return ResponseEntity.ok(slaAnalyticsService.getReport());
+    }
+
+    // Clustered markers for one {z}/{x}/{y} map tile, so the map never has to download every grievance.
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<MapTileDto> getTile(@PathVariable int z, @PathVariable int x, @PathVariable int y) {
+        try {
+            return ResponseEntity.ok(mapsService.getTile(z, x, y));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Versioned per reporter: a poll that finds nothing new is answered with 304 before any query runs.
     @GetMapping("/my-requests")
-    public ResponseEntity<List<GrievanceDto>> getMyGrievances(Principal principal) {
-        return ResponseEntity.ok(grievanceService.getGrievancesByUsername(principal.getName()));
+    public ResponseEntity<List<GrievanceDto>> getMyGrievances(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            Principal principal) {
+        // Read before the query so a write racing with it produces a newer tag next time, never a stale 304
+        String etag = versions.tag("my-requests", principal.getName(), versions.grievancesOf(principal.getName()));
+        if (CachedResponses.notModified(ifNoneMatch, etag)) {
+            return CachedResponses.notModifiedResponse(etag, true);
+        }
+        return CachedResponses.okWithTag(etag, true).body(grievanceService.getGrievancesByUsername(principal.getName()));
     }
 
     @PostMapping(consumes = "multipart/form-data")
@@ -36,10 +205,33 @@ public class GrievanceController {
             @RequestParam(value = "latitude", required = false) Double latitude,
             @RequestParam(value = "longitude", required = false) Double longitude,
             @RequestParam(value = "file", required = false) MultipartFile file,
+            @RequestParam(value = "uploadId", required = false) String uploadId,
             Principal principal) {
         
-        GrievanceDto grievanceDto = new GrievanceDto(null, title, description, null, null, category, null, null, latitude, longitude, null, false, 0, 0);
-        return ResponseEntity.ok(grievanceService.createGrievance(grievanceDto, file, principal.getName()));
+        GrievanceDto grievanceDto = new GrievanceDto(null, title, description, null, null, category, null, null, latitude, longitude, null, false, 0, 0, null, null);
+        try {
+            return ResponseEntity.ok(grievanceService.createGrievance(grievanceDto, file, uploadId, principal.getName()));
+        } catch (IllegalArgumentException e) {
+            // uploadId is unknown, expired, incomplete or already used
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Admin bulk import. The raw body (text/csv with a header row, or application/x-ndjson) is streamed
+    // straight into chunked inserts rather than buffered as a multipart upload.
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResultDto> importGrievances(HttpServletRequest request, Principal principal) throws IOException {
+        GrievanceImportService.Format format = request.getContentType().startsWith("text/csv")
+                ? GrievanceImportService.Format.CSV : GrievanceImportService.Format.NDJSON;
+        return ResponseEntity.ok(importService.importGrievances(request.getInputStream(), format, principal.getName()));
+    }
+
+    // Admin: queues thumbnail/medium variants for stored photos that don't have them yet (e.g. uploaded before
+    // variants existed). Images that didn't fit in the queue are counted in "dropped"; call again to retry them.
+    @PostMapping("/image-variants/backfill")
+    public ResponseEntity<Map<String, Long>> backfillImageVariants() {
+        long queued = imageVariantService.backfill();
+        return ResponseEntity.ok(Map.of("queued", queued, "dropped", imageVariantService.getDroppedCount()));
     }
 
     @PutMapping("/{id}")
@@ -47,6 +239,16 @@ public class GrievanceController {
         return ResponseEntity.ok(grievanceService.updateMyGrievance(id, grievanceDto, principal.getName()));
     }
 
+    // Bulk triage: [{"id": 1, "status": "In Progress"}, ...] applied in one transaction with a single broadcast.
+    @PatchMapping("/bulk")
+    public ResponseEntity<List<GrievanceDto>> updateGrievanceStatuses(@RequestBody List<StatusUpdateDto> updates) {
+        if (updates == null || updates.isEmpty() || updates.size() > MAX_BULK_UPDATES
+                || updates.stream().anyMatch(u -> u.id() == null || u.status() == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(grievanceService.updateStatuses(updates));
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<GrievanceDto> updateGrievanceStatus(@PathVariable Long id, @RequestBody Map<String, String> updates) {
         String newStatus = updates.get("status");
@@ -59,4 +261,12 @@ public class GrievanceController {
         }
         return ResponseEntity.ok(updatedGrievance);
     }
-}
\ No newline at end of file
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteGrievance(@PathVariable Long id) {
+        if (!grievanceService.deleteGrievance(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,62 @@
+// In backend/src/main/java/com/gramalertplus/controller/MapsController.java
+package com.gramalertplus.controller;
+
+import com.gramalertplus.dto.MapMarkerDto;
+import com.gramalertplus.maps.MapsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/maps/grievances")
+public class MapsController {
+
+    private static final int MAX_NEAREST = 500;
+    private static final double MAX_RADIUS_KM = 200;
+
+    @Autowired
+    private MapsService mapsService;
+
+    @GetMapping("/radius")
+    public ResponseEntity<List<MapMarkerDto>> getInRadius(
+            @RequestParam("lat") double lat,
+            @RequestParam("lng") double lng,
+            @RequestParam(value = "radiusKm", defaultValue = "5") double radiusKm,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "includeResolved", defaultValue = "false") boolean includeResolved) {
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(mapsService.getGrievancesInRadius(lat, lng, radiusKm, category, includeResolved));
+    }
+
+    @GetMapping("/bbox")
+    public ResponseEntity<List<MapMarkerDto>> getInBox(
+            @RequestParam("minLat") double minLat,
+            @RequestParam("minLng") double minLng,
+            @RequestParam("maxLat") double maxLat,
+            @RequestParam("maxLng") double maxLng,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "includeResolved", defaultValue = "false") boolean includeResolved) {
+        if (minLat > maxLat || minLng > maxLng) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(mapsService.getGrievancesInBox(minLat, minLng, maxLat, maxLng, category, includeResolved));
+    }
+
+    @GetMapping("/nearest")
+    public ResponseEntity<List<MapMarkerDto>> getNearest(
+            @RequestParam("lat") double lat,
+            @RequestParam("lng") double lng,
+            @RequestParam(value = "k", defaultValue = "10") int k,
+            @RequestParam(value = "maxRadiusKm", defaultValue = "50") double maxRadiusKm,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "includeResolved", defaultValue = "false") boolean includeResolved) {
+        if (k <= 0 || k > MAX_NEAREST || maxRadiusKm <= 0 || maxRadiusKm > MAX_RADIUS_KM) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(mapsService.getNearestGrievances(lat, lng, k, maxRadiusKm, category, includeResolved));
+    }
+}
@@ -0,0 +1,31 @@
+// In backend/src/main/java/com/gramalertplus/controller/SearchController.java
+package com.gramalertplus.controller;
+
+import com.gramalertplus.dto.SearchResultDto;
+import com.gramalertplus.search.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+
+    private static final int MAX_RESULTS = 100;
+
+    @Autowired
+    private SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<List<SearchResultDto>> search(
+            @RequestParam("q") String query,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        if (type != null && !SearchService.GRIEVANCE.equals(type) && !SearchService.ALERT.equals(type)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(searchService.search(query, type, Math.max(1, Math.min(limit, MAX_RESULTS))));
+    }
+}
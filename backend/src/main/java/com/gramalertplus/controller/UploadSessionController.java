@@ -0,0 +1,97 @@
+// In backend/src/main/java/com/gramalertplus/controller/UploadSessionController.java
+package com.gramalertplus.controller;
+
+import com.gramalertplus.dto.UploadSessionDto;
+import com.gramalertplus.dto.UploadSessionRequest;
+import com.gramalertplus.service.ChunkedUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Resumable attachment uploads. Flow: POST a session, PUT chunks with "Content-Range: bytes start-end/total",
+// GET the session after a dropped connection to find where to resume, POST .../complete, then create the
+// grievance with uploadId=<session id>.
+@RestController
+@RequestMapping("/api/uploads/sessions")
+public class UploadSessionController {
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+|\\*)");
+
+    @Autowired
+    private ChunkedUploadService uploadService;
+
+    @PostMapping
+    public ResponseEntity<?> createSession(@RequestBody UploadSessionRequest request, Principal principal) throws IOException {
+        if (request.size() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(uploadService.create(request.fileName(), request.size(), request.contentType(), principal.getName()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<UploadSessionDto> getSession(@PathVariable String id, Principal principal) {
+        try {
+            return ResponseEntity.ok(uploadService.get(id, principal.getName()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // The body is the raw bytes of the range (application/octet-stream); it is not buffered.
+    @PutMapping("/{id}")
+    public ResponseEntity<UploadSessionDto> uploadChunk(@PathVariable String id,
+                                                        @RequestHeader("Content-Range") String contentRange,
+                                                        HttpServletRequest request, Principal principal) throws IOException {
+        Matcher matcher = CONTENT_RANGE.matcher(contentRange.trim());
+        if (!matcher.matches()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            // NumberFormatException on values too large for a long is an IllegalArgumentException
+            long start = Long.parseLong(matcher.group(1));
+            long end = Long.parseLong(matcher.group(2));
+            return ResponseEntity.ok(uploadService.writeChunk(id, principal.getName(), start, end - start + 1, request.getInputStream()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    // Optional body {"sha256": "<hex>"} to have the server verify the assembled file.
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<?> completeSession(@PathVariable String id, @RequestBody(required = false) Map<String, String> body,
+                                             Principal principal) throws IOException {
+        try {
+            return ResponseEntity.ok(uploadService.complete(id, principal.getName(), body != null ? body.get("sha256") : null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancelSession(@PathVariable String id, Principal principal) {
+        try {
+            uploadService.cancel(id, principal.getName());
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
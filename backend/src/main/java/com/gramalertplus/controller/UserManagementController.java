@@ -1,8 +1,10 @@
 // In backend/src/main/java/com/gramalertplus/controller/UserManagementController.java
 package com.gramalertplus.controller;
 
+import com.gramalertplus.dto.CacheStatsDto;
 import com.gramalertplus.dto.UserDto;
 import com.gramalertplus.service.UserService;
+import com.gramalertplus.service.UsernameCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,11 +18,20 @@ public class UserManagementController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UsernameCache usernameCache;
+
     @GetMapping
     public ResponseEntity<List<UserDto>> getAllUsers() {
         return ResponseEntity.ok(userService.getAllUsers());
     }
 
+    // Hit/miss counters of the id -> username cache used when building grievance responses.
+    @GetMapping("/username-cache/stats")
+    public ResponseEntity<CacheStatsDto> getUsernameCacheStats() {
+        return ResponseEntity.ok(usernameCache.getStats());
+    }
+
     @PostMapping
     public ResponseEntity<?> createUser(@RequestBody UserDto userDto) {
         try {
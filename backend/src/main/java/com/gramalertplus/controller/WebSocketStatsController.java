@@ -0,0 +1,24 @@
+// In backend/src/main/java/com/gramalertplus/controller/WebSocketStatsController.java
+package com.gramalertplus.controller;
+
+import com.gramalertplus.dto.OutboundQueueStatsDto;
+import com.gramalertplus.websocket.OutboundQueueManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/websocket")
+public class WebSocketStatsController {
+
+    @Autowired
+    private OutboundQueueManager outboundQueueManager;
+
+    // Depth of the per-session outbound queues and how often the overflow policy kicked in
+    @GetMapping("/outbound/stats")
+    public ResponseEntity<OutboundQueueStatsDto> getOutboundStats() {
+        return ResponseEntity.ok(outboundQueueManager.getStats());
+    }
+}
@@ -0,0 +1,14 @@
+// In backend/src/main/java/com/gramalertplus/dto/AlertAreaDto.java
+package com.gramalertplus.dto;
+
+import java.util.List;
+
+// Where an alert applies. type "circle" uses centerLat/centerLng/radiusKm; type "polygon" uses polygon,
+// a list of [lat, lng] vertices. An alert without an area goes to everyone.
+public record AlertAreaDto(
+    String type,
+    Double centerLat,
+    Double centerLng,
+    Double radiusKm,
+    List<double[]> polygon
+) {}
@@ -12,5 +12,6 @@ public record AlertDto(
     String severity,
     LocalDateTime startTime,
     LocalDateTime endTime,
-    String createdAt
+    String createdAt,
+    AlertAreaDto area
 ) {}
\ No newline at end of file
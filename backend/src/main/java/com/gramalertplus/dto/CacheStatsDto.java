@@ -0,0 +1,10 @@
+// In backend/src/main/java/com/gramalertplus/dto/CacheStatsDto.java
+package com.gramalertplus.dto;
+
+public record CacheStatsDto(
+    long size,
+    long hits,
+    long misses,
+    double hitRate,
+    long evictions
+) {}
@@ -0,0 +1,11 @@
+// In backend/src/main/java/com/gramalertplus/dto/EscalationNoticeDto.java
+package com.gramalertplus.dto;
+
+public record EscalationNoticeDto(
+    Long grievanceId,
+    String title,
+    String category,
+    int escalationLevel,
+    String escalatedTo,
+    String escalatedAt
+) {}
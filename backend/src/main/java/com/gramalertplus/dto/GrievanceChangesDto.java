@@ -0,0 +1,13 @@
+// In backend/src/main/java/com/gramalertplus/dto/GrievanceChangesDto.java
+package com.gramalertplus.dto;
+
+import java.util.List;
+
+// One delta-sync page: grievances created or updated since the cursor, ids deleted since the cursor,
+// and the cursor to send next time. When hasMore is true, call again straight away with nextCursor.
+public record GrievanceChangesDto(
+    List<GrievanceDto> changed,
+    List<Long> deleted,
+    String nextCursor,
+    boolean hasMore
+) {}
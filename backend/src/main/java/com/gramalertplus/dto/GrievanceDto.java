@@ -15,5 +15,8 @@ public record GrievanceDto(
     String fileUrl,
     boolean isOverdue,
     int reportCount,
-    int escalationLevel
+    int escalationLevel,
+    // Downscaled copies of the attachment for list/detail views; the original URL until they're generated
+    String thumbnailUrl,
+    String mediumUrl
 ) {}
\ No newline at end of file
@@ -0,0 +1,18 @@
+// In backend/src/main/java/com/gramalertplus/dto/GrievanceFilter.java
+package com.gramalertplus.dto;
+
+import java.time.LocalDateTime;
+
+// Optional server-side filters for grievance listings. A null field means "don't filter on it".
+public record GrievanceFilter(
+    String status,
+    String category,
+    String priority,
+    Boolean overdue,
+    LocalDateTime from,
+    LocalDateTime to
+) {
+    public static GrievanceFilter none() {
+        return new GrievanceFilter(null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,10 @@
+// In backend/src/main/java/com/gramalertplus/dto/GrievancePageDto.java
+package com.gramalertplus.dto;
+
+import java.util.List;
+
+// One page of a keyset-paginated listing. nextCursor is null when there are no more rows.
+public record GrievancePageDto(
+    List<GrievanceDto> items,
+    String nextCursor
+) {}
@@ -0,0 +1,14 @@
+// In backend/src/main/java/com/gramalertplus/dto/GrievanceStatsDto.java
+package com.gramalertplus.dto;
+
+import java.util.Map;
+
+public record GrievanceStatsDto(
+    long total,
+    long overdue,
+    Map<String, Long> byCategory,
+    Map<String, Long> byStatus,
+    Map<String, Long> byPriority,
+    Map<String, Map<String, Long>> byCategoryAndStatus,
+    String reconciledAt
+) {}
@@ -0,0 +1,13 @@
+// In backend/src/main/java/com/gramalertplus/dto/ImportResultDto.java
+package com.gramalertplus.dto;
+
+import java.util.List;
+
+// Outcome of a bulk import. "errors" holds the first few rejected rows as "line N: reason".
+public record ImportResultDto(
+    long imported,
+    long rejected,
+    List<String> errors,
+    long elapsedMs,
+    double rowsPerSecond
+) {}
@@ -0,0 +1,13 @@
+// In backend/src/main/java/com/gramalertplus/dto/MapClusterDto.java
+package com.gramalertplus.dto;
+
+import java.util.Map;
+
+// Pre-aggregated group of grievances within one map tile. latitude/longitude is the centroid.
+public record MapClusterDto(
+    double latitude,
+    double longitude,
+    int count,
+    Map<String, Integer> categories,
+    Map<String, Integer> statuses
+) {}
@@ -0,0 +1,12 @@
+// In backend/src/main/java/com/gramalertplus/dto/MapMarkerDto.java
+package com.gramalertplus.dto;
+
+// A grievance as a map marker. distanceKm is only set for radius / nearest queries.
+public record MapMarkerDto(
+    Long id,
+    double latitude,
+    double longitude,
+    String category,
+    String status,
+    Double distanceKm
+) {}
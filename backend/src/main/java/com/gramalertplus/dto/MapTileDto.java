@@ -0,0 +1,12 @@
+// In backend/src/main/java/com/gramalertplus/dto/MapTileDto.java
+package com.gramalertplus.dto;
+
+import java.util.List;
+
+public record MapTileDto(
+    int z,
+    int x,
+    int y,
+    int total,
+    List<MapClusterDto> clusters
+) {}
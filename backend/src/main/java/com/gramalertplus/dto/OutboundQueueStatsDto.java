@@ -0,0 +1,15 @@
+// In backend/src/main/java/com/gramalertplus/dto/OutboundQueueStatsDto.java
+package com.gramalertplus.dto;
+
+// Per-session STOMP outbound queues: current depth across sessions and what the overflow policy has done so far.
+public record OutboundQueueStatsDto(
+    String policy,
+    int capacity,
+    int sessions,
+    long queuedFrames,
+    int maxQueueDepth,
+    long sentFrames,
+    long droppedFrames,
+    long coalescedFrames,
+    long disconnectedSessions
+) {}
@@ -0,0 +1,10 @@
+// In backend/src/main/java/com/gramalertplus/dto/SearchResultDto.java
+package com.gramalertplus.dto;
+
+public record SearchResultDto(
+    String type, // "grievance" or "alert"
+    Long id,
+    String title,
+    String category,
+    double score
+) {}
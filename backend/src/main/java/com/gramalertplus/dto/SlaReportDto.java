@@ -0,0 +1,10 @@
+// In backend/src/main/java/com/gramalertplus/dto/SlaReportDto.java
+package com.gramalertplus.dto;
+
+import java.util.Map;
+
+public record SlaReportDto(
+    SlaSummaryDto overall,
+    Map<String, SlaSummaryDto> byCategory,
+    Map<Integer, SlaSummaryDto> byEscalationLevel
+) {}
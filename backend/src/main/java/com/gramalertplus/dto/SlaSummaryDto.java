@@ -0,0 +1,14 @@
+// In backend/src/main/java/com/gramalertplus/dto/SlaSummaryDto.java
+package com.gramalertplus.dto;
+
+// Resolution-time percentiles in hours. "pastDeadline" is how late a grievance was resolved (0 when on time).
+public record SlaSummaryDto(
+    long resolved,
+    long resolvedLate,
+    double timeToResolveP50Hours,
+    double timeToResolveP90Hours,
+    double timeToResolveP99Hours,
+    double pastDeadlineP50Hours,
+    double pastDeadlineP90Hours,
+    double pastDeadlineP99Hours
+) {}
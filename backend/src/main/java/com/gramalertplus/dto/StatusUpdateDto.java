@@ -0,0 +1,8 @@
+// In backend/src/main/java/com/gramalertplus/dto/StatusUpdateDto.java
+package com.gramalertplus.dto;
+
+// One item of a bulk status update request.
+public record StatusUpdateDto(
+    Long id,
+    String status
+) {}
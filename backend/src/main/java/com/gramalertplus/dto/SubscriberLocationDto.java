@@ -0,0 +1,8 @@
+// In backend/src/main/java/com/gramalertplus/dto/SubscriberLocationDto.java
+package com.gramalertplus.dto;
+
+// Sent by a client over STOMP (/app/alerts/location) so it receives the geo-targeted alerts covering it.
+public record SubscriberLocationDto(
+    double latitude,
+    double longitude
+) {}
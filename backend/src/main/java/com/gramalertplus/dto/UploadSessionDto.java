@@ -0,0 +1,16 @@
+// In backend/src/main/java/com/gramalertplus/dto/UploadSessionDto.java
+package com.gramalertplus.dto;
+
+import java.util.List;
+
+// State of a resumable upload. "received" is how many bytes from the start are in place, i.e. where a
+// client that lost its connection should resume; "ranges" lists every stored [start, end) byte range.
+public record UploadSessionDto(
+    String id,
+    String fileName,
+    long size,
+    long received,
+    List<long[]> ranges,
+    boolean complete,
+    String sha256
+) {}
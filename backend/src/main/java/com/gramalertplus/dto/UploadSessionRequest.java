@@ -0,0 +1,8 @@
+// In backend/src/main/java/com/gramalertplus/dto/UploadSessionRequest.java
+package com.gramalertplus.dto;
+
+public record UploadSessionRequest(
+    String fileName,
+    Long size,
+    String contentType
+) {}
@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 public class Alert {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alerts_seq")
+    @SequenceGenerator(name = "alerts_seq", sequenceName = "alerts_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -24,6 +25,23 @@ public class Alert {
     @Column(name = "end_time")
     private LocalDateTime endTime;
 
+    // Affected area; all null for an alert that goes to everyone. See AlertAreaDto.
+    @Column(name = "area_type")
+    private String areaType;
+
+    @Column(name = "area_center_lat")
+    private Double areaCenterLat;
+
+    @Column(name = "area_center_lng")
+    private Double areaCenterLng;
+
+    @Column(name = "area_radius_km")
+    private Double areaRadiusKm;
+
+    // "lat,lng;lat,lng;..."
+    @Column(name = "area_polygon", columnDefinition = "TEXT")
+    private String areaPolygon;
+
     @Column(name = "created_by")
     private Long createdBy;
 
@@ -50,6 +68,16 @@ public class Alert {
     public void setStartTime(LocalDateTime startTime) { this.startTime = startTime; }
     public LocalDateTime getEndTime() { return endTime; }
     public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+    public String getAreaType() { return areaType; }
+    public void setAreaType(String areaType) { this.areaType = areaType; }
+    public Double getAreaCenterLat() { return areaCenterLat; }
+    public void setAreaCenterLat(Double areaCenterLat) { this.areaCenterLat = areaCenterLat; }
+    public Double getAreaCenterLng() { return areaCenterLng; }
+    public void setAreaCenterLng(Double areaCenterLng) { this.areaCenterLng = areaCenterLng; }
+    public Double getAreaRadiusKm() { return areaRadiusKm; }
+    public void setAreaRadiusKm(Double areaRadiusKm) { this.areaRadiusKm = areaRadiusKm; }
+    public String getAreaPolygon() { return areaPolygon; }
+    public void setAreaPolygon(String areaPolygon) { this.areaPolygon = areaPolygon; }
     public Long getCreatedBy() { return createdBy; }
     public void setCreatedBy(Long createdBy) { this.createdBy = createdBy; }
     public LocalDateTime getCreatedAt() { return createdAt; }
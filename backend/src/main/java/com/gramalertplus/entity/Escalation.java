@@ -0,0 +1,42 @@
+// In backend/src/main/java/com/gramalertplus/entity/Escalation.java
+package com.gramalertplus.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Append-only log of escalation steps. Rows are written in JDBC batches by EscalationJdbcRepository;
+// the entity mainly exists so the table is managed alongside the others.
+@Entity
+@Table(name = "escalations", indexes = {
+    @Index(name = "idx_escalations_grievance_id", columnList = "grievance_id")
+})
+public class Escalation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "grievance_id", nullable = false)
+    private Long grievanceId;
+
+    @Column(name = "escalated_to")
+    private String escalatedTo;
+
+    @Column(name = "escalation_level")
+    private Integer escalationLevel;
+
+    @Column(name = "escalated_at")
+    private LocalDateTime escalatedAt;
+
+    // --- Getters and Setters ---
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getGrievanceId() { return grievanceId; }
+    public void setGrievanceId(Long grievanceId) { this.grievanceId = grievanceId; }
+    public String getEscalatedTo() { return escalatedTo; }
+    public void setEscalatedTo(String escalatedTo) { this.escalatedTo = escalatedTo; }
+    public Integer getEscalationLevel() { return escalationLevel; }
+    public void setEscalationLevel(Integer escalationLevel) { this.escalationLevel = escalationLevel; }
+    public LocalDateTime getEscalatedAt() { return escalatedAt; }
+    public void setEscalatedAt(LocalDateTime escalatedAt) { this.escalatedAt = escalatedAt; }
+}
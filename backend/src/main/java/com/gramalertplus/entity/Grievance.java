@@ -5,11 +5,24 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "grievances")
+@Table(name = "grievances", indexes = {
+    // Keyset listing indexes: each filter column leads, followed by the (created_at, id) sort key.
+    @Index(name = "idx_grievances_created_id", columnList = "created_at, id"),
+    @Index(name = "idx_grievances_status_created_id", columnList = "status, created_at, id"),
+    @Index(name = "idx_grievances_category_created_id", columnList = "category, created_at, id"),
+    @Index(name = "idx_grievances_priority_created_id", columnList = "priority, created_at, id"),
+    @Index(name = "idx_grievances_overdue_created_id", columnList = "is_overdue, created_at, id"),
+    // Delta sync walks rows in (updated_at, id) order
+    @Index(name = "idx_grievances_updated_id", columnList = "updated_at, id"),
+    // Finding the grievances a stored (possibly shared) file belongs to
+    @Index(name = "idx_grievances_file_url", columnList = "file_url")
+    // The escalation scheduler's idx_grievances_pending_deadline is partial; PartialIndexInitializer creates it
+})
 public class Grievance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "grievances_seq")
+    @SequenceGenerator(name = "grievances_seq", sequenceName = "grievances_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -52,7 +65,10 @@ public class Grievance {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // Imported historical grievances arrive with their original createdAt
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
         updatedAt = LocalDateTime.now();
     }
 
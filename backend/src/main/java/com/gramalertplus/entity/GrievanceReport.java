@@ -0,0 +1,39 @@
+// In backend/src/main/java/com/gramalertplus/entity/GrievanceReport.java
+package com.gramalertplus.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// A report by another villager that was merged into an existing grievance instead of creating a new row.
+// The grievance's own user_id stays the original reporter; these rows make the merged reports show up in
+// the co-reporters' /grievances/my-requests.
+@Entity
+@Table(name = "grievance_reports", indexes = {
+    @Index(name = "idx_grievance_reports_grievance_id", columnList = "grievance_id"),
+    @Index(name = "idx_grievance_reports_user_id", columnList = "user_id")
+})
+public class GrievanceReport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "grievance_id", nullable = false)
+    private Long grievanceId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "reported_at", nullable = false)
+    private LocalDateTime reportedAt;
+
+    // --- Getters and Setters ---
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getGrievanceId() { return grievanceId; }
+    public void setGrievanceId(Long grievanceId) { this.grievanceId = grievanceId; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public LocalDateTime getReportedAt() { return reportedAt; }
+    public void setReportedAt(LocalDateTime reportedAt) { this.reportedAt = reportedAt; }
+}
@@ -0,0 +1,27 @@
+// In backend/src/main/java/com/gramalertplus/entity/GrievanceTombstone.java
+package com.gramalertplus.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Marker left behind when a grievance is deleted, so /grievances/changes can tell clients to drop it.
+// Written by GrievanceJdbcRepository; pruned after sync.tombstone-retention-days.
+@Entity
+@Table(name = "grievance_tombstones", indexes = {
+    @Index(name = "idx_grievance_tombstones_deleted_at", columnList = "deleted_at")
+})
+public class GrievanceTombstone {
+
+    @Id
+    @Column(name = "grievance_id")
+    private Long grievanceId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    // --- Getters and Setters ---
+    public Long getGrievanceId() { return grievanceId; }
+    public void setGrievanceId(Long grievanceId) { this.grievanceId = grievanceId; }
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(LocalDateTime deletedAt) { this.deletedAt = deletedAt; }
+}
@@ -0,0 +1,47 @@
+// In backend/src/main/java/com/gramalertplus/entity/StoredFile.java
+package com.gramalertplus.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// One row per distinct upload content. Files are named by the SHA-256 of their bytes, so identical
+// uploads share a file and refCount tracks how many grievances point at it. Maintained by StoredFileJdbcRepository.
+@Entity
+@Table(name = "stored_files", indexes = {
+    @Index(name = "idx_stored_files_url", columnList = "url", unique = true)
+})
+public class StoredFile {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private String url;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // --- Getters and Setters ---
+    public String getHash() { return hash; }
+    public void setHash(String hash) { this.hash = hash; }
+    public String getUrl() { return url; }
+    public void setUrl(String url) { this.url = url; }
+    public Long getSizeBytes() { return sizeBytes; }
+    public void setSizeBytes(Long sizeBytes) { this.sizeBytes = sizeBytes; }
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+    public Integer getRefCount() { return refCount; }
+    public void setRefCount(Integer refCount) { this.refCount = refCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,76 @@
+package com.gramalertplus.maps;
+
+import java.util.List;
+
+/**
+ * A region on the map that can be tested point by point.
+ *
+ * Every area also exposes its bounding box, so callers can first narrow candidates with a
+ * GeoGridIndex box query and only run the exact containment test on what falls inside.
+ */
+public interface GeoArea {
+
+    double minLat();
+    double minLng();
+    double maxLat();
+    double maxLng();
+
+    boolean contains(double lat, double lng);
+
+    static GeoArea circle(double centerLat, double centerLng, double radiusKm) {
+        return new Circle(centerLat, centerLng, radiusKm);
+    }
+
+    static GeoArea polygon(List<double[]> vertices) {
+        return new Polygon(vertices);
+    }
+
+    record Circle(double centerLat, double centerLng, double radiusKm) implements GeoArea {
+
+        private static final double KM_PER_DEGREE = 111.32;
+
+        public double minLat() { return Math.max(-90.0, centerLat - radiusKm / KM_PER_DEGREE); }
+        public double maxLat() { return Math.min(90.0, centerLat + radiusKm / KM_PER_DEGREE); }
+        public double minLng() { return Math.max(-180.0, centerLng - lngSpan()); }
+        public double maxLng() { return Math.min(180.0, centerLng + lngSpan()); }
+
+        @Override
+        public boolean contains(double lat, double lng) {
+            return GeoGridIndex.haversineKm(centerLat, centerLng, lat, lng) <= radiusKm;
+        }
+
+        // Degrees of longitude covering radiusKm at the circle's widest latitude
+        private double lngSpan() {
+            double widestLat = Math.min(89.0, Math.abs(centerLat) + radiusKm / KM_PER_DEGREE);
+            return radiusKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(widestLat)));
+        }
+    }
+
+    // Vertices are [lat, lng]; the ring is closed implicitly. Planar even-odd test, fine at ward / district scale.
+    record Polygon(List<double[]> vertices, double minLat, double minLng, double maxLat, double maxLng) implements GeoArea {
+
+        public Polygon(List<double[]> vertices) {
+            this(List.copyOf(vertices),
+                    vertices.stream().mapToDouble(v -> v[0]).min().orElse(0),
+                    vertices.stream().mapToDouble(v -> v[1]).min().orElse(0),
+                    vertices.stream().mapToDouble(v -> v[0]).max().orElse(0),
+                    vertices.stream().mapToDouble(v -> v[1]).max().orElse(0));
+        }
+
+        @Override
+        public boolean contains(double lat, double lng) {
+            if (lat < minLat || lat > maxLat || lng < minLng || lng > maxLng) {
+                return false;
+            }
+            boolean inside = false;
+            for (int i = 0, j = vertices.size() - 1; i < vertices.size(); j = i++) {
+                double[] a = vertices.get(i), b = vertices.get(j);
+                if ((a[0] > lat) != (b[0] > lat)
+                        && lng < (b[1] - a[1]) * (lat - a[0]) / (b[0] - a[0]) + a[1]) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.gramalertplus.maps;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe, grid-bucketed in-memory index of points.
+ *
+ * The world is cut into square cells of cellSizeDegrees; each cell holds the ids of the points inside it.
+ * Box and radius queries only visit the cells overlapping the query area, and k-nearest searches expand
+ * ring by ring from the query cell, so query cost depends on the size of the area, not on the number of
+ * points indexed.
+ */
+public class GeoGridIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final double cellSizeDegrees;
+    private final Map<Long, GeoPoint> points = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    public GeoGridIndex(double cellSizeDegrees) {
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    public double getCellSizeDegrees() {
+        return cellSizeDegrees;
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    public GeoPoint get(Long id) {
+        return points.get(id);
+    }
+
+    public Collection<GeoPoint> all() {
+        return points.values();
+    }
+
+    // Inserts or moves a point; returns the previous version, if any.
+    public synchronized GeoPoint put(GeoPoint point) {
+        GeoPoint previous = points.put(point.id(), point);
+        long cell = cellOf(point.latitude(), point.longitude());
+        if (previous != null) {
+            long previousCell = cellOf(previous.latitude(), previous.longitude());
+            if (previousCell == cell) {
+                return previous;
+            }
+            removeFromCell(previousCell, previous.id());
+        }
+        cells.computeIfAbsent(cell, c -> ConcurrentHashMap.newKeySet()).add(point.id());
+        return previous;
+    }
+
+    public synchronized GeoPoint remove(Long id) {
+        GeoPoint previous = points.remove(id);
+        if (previous != null) {
+            removeFromCell(cellOf(previous.latitude(), previous.longitude()), id);
+        }
+        return previous;
+    }
+
+    public synchronized void clear() {
+        points.clear();
+        cells.clear();
+    }
+
+    public List<GeoPoint> withinBox(double minLat, double minLng, double maxLat, double maxLng, Predicate<GeoPoint> filter) {
+        List<GeoPoint> result = new ArrayList<>();
+        int minRow = row(minLat), maxRow = row(maxLat);
+        int minCol = col(minLng), maxCol = col(maxLng);
+        long cellsInBox = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+        if (cellsInBox > cells.size()) {
+            // Very large box (low zoom): cheaper to walk the occupied cells than every cell in range.
+            cells.forEach((cell, ids) -> {
+                int r = rowOfKey(cell), c = colOfKey(cell);
+                if (r >= minRow && r <= maxRow && c >= minCol && c <= maxCol) {
+                    collect(ids, minLat, minLng, maxLat, maxLng, filter, result);
+                }
+            });
+            return result;
+        }
+
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                Set<Long> ids = cells.get(key(r, c));
+                if (ids != null) {
+                    collect(ids, minLat, minLng, maxLat, maxLng, filter, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    // Points within radiusKm of (lat, lng), nearest first.
+    public List<Neighbour> withinRadius(double lat, double lng, double radiusKm, Predicate<GeoPoint> filter) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double lngDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 1e-6));
+        List<Neighbour> result = new ArrayList<>();
+        for (GeoPoint point : withinBox(lat - latDelta, lng - lngDelta, lat + latDelta, lng + lngDelta, filter)) {
+            double distance = haversineKm(lat, lng, point.latitude(), point.longitude());
+            if (distance <= radiusKm) {
+                result.add(new Neighbour(point, distance));
+            }
+        }
+        result.sort(Comparator.comparingDouble(Neighbour::distanceKm));
+        return result;
+    }
+
+    // Up to k points nearest to (lat, lng), searching no further than maxRadiusKm.
+    public List<Neighbour> nearest(double lat, double lng, int k, double maxRadiusKm, Predicate<GeoPoint> filter) {
+        // Max-heap on distance holding the best k found so far
+        PriorityQueue<Neighbour> best = new PriorityQueue<>(Comparator.comparingDouble(Neighbour::distanceKm).reversed());
+        int centerRow = row(lat), centerCol = col(lng);
+        // Smallest extent of one cell in km near the query point. Anything in ring r or beyond is at least
+        // (r - 1) cells away, since the query point can sit anywhere inside the centre cell.
+        double cellKm = cellSizeDegrees * KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(Math.min(Math.abs(lat) + cellSizeDegrees, 89.9))), 1e-6);
+        int maxRing = (int) Math.ceil(maxRadiusKm / cellKm) + 1;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (best.size() >= k && best.peek().distanceKm() <= (ring - 1) * cellKm) {
+                break;
+            }
+            // Only the ring's perimeter: 8 * ring cells, the interior was covered by earlier rings
+            if (ring == 0) {
+                scanCell(centerRow, centerCol, lat, lng, k, maxRadiusKm, filter, best);
+                continue;
+            }
+            for (int c = centerCol - ring; c <= centerCol + ring; c++) {
+                scanCell(centerRow - ring, c, lat, lng, k, maxRadiusKm, filter, best);
+                scanCell(centerRow + ring, c, lat, lng, k, maxRadiusKm, filter, best);
+            }
+            for (int r = centerRow - ring + 1; r <= centerRow + ring - 1; r++) {
+                scanCell(r, centerCol - ring, lat, lng, k, maxRadiusKm, filter, best);
+                scanCell(r, centerCol + ring, lat, lng, k, maxRadiusKm, filter, best);
+            }
+        }
+        List<Neighbour> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Neighbour::distanceKm));
+        return result;
+    }
+
+    // Offers the cell's points within maxRadiusKm to the max-heap of the best k
+    private void scanCell(int r, int c, double lat, double lng, int k, double maxRadiusKm,
+                          Predicate<GeoPoint> filter, PriorityQueue<Neighbour> best) {
+        Set<Long> ids = cells.get(key(r, c));
+        if (ids == null) {
+            return;
+        }
+        for (Long id : ids) {
+            GeoPoint point = points.get(id);
+            if (point == null || !filter.test(point)) {
+                continue;
+            }
+            double distance = haversineKm(lat, lng, point.latitude(), point.longitude());
+            if (distance > maxRadiusKm) {
+                continue;
+            }
+            if (best.size() < k) {
+                best.add(new Neighbour(point, distance));
+            } else if (distance < best.peek().distanceKm()) {
+                best.poll();
+                best.add(new Neighbour(point, distance));
+            }
+        }
+    }
+
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private void collect(Set<Long> ids, double minLat, double minLng, double maxLat, double maxLng,
+                         Predicate<GeoPoint> filter, List<GeoPoint> result) {
+        for (Long id : ids) {
+            GeoPoint point = points.get(id);
+            if (point != null
+                    && point.latitude() >= minLat && point.latitude() <= maxLat
+                    && point.longitude() >= minLng && point.longitude() <= maxLng
+                    && filter.test(point)) {
+                result.add(point);
+            }
+        }
+    }
+
+    private void removeFromCell(long cell, Long id) {
+        cells.computeIfPresent(cell, (c, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private long cellOf(double lat, double lng) {
+        return key(row(lat), col(lng));
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor((Math.max(-90.0, Math.min(90.0, lat)) + 90.0) / cellSizeDegrees);
+    }
+
+    private int col(double lng) {
+        return (int) Math.floor((Math.max(-180.0, Math.min(180.0, lng)) + 180.0) / cellSizeDegrees);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    private static int rowOfKey(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int colOfKey(long key) {
+        return (int) key;
+    }
+
+    public record Neighbour(GeoPoint point, double distanceKm) {}
+}
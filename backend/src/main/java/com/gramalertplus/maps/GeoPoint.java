@@ -0,0 +1,9 @@
+package com.gramalertplus.maps;
+
+// What the spatial index keeps per grievance: just enough to place and filter a map marker.
+public record GeoPoint(Long id, double latitude, double longitude, String category, String status) {
+
+    public boolean isResolved() {
+        return "Resolved".equals(status);
+    }
+}
@@ -0,0 +1,62 @@
+package com.gramalertplus.maps;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Where each connected client said it is, keyed by STOMP session id.
+ *
+ * Backed by a GeoGridIndex, so finding the sessions inside an alert's area only visits the grid cells
+ * under its bounding box; the cost of a targeted send follows the size of the area, not the number of
+ * connected clients.
+ */
+public class LocationSubscriptionIndex {
+
+    private final GeoGridIndex index;
+    private final AtomicLong nextKey = new AtomicLong();
+    // GeoGridIndex is keyed by Long; sessions get a synthetic key for as long as they stay registered
+    private final Map<String, Long> keyBySession = new ConcurrentHashMap<>();
+    private final Map<Long, String> sessionByKey = new ConcurrentHashMap<>();
+
+    public LocationSubscriptionIndex(double cellSizeDegrees) {
+        this.index = new GeoGridIndex(cellSizeDegrees);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    // Registers a session or moves it to a new location
+    public void register(String sessionId, double lat, double lng) {
+        Long key = keyBySession.computeIfAbsent(sessionId, s -> {
+            long k = nextKey.incrementAndGet();
+            sessionByKey.put(k, s);
+            return k;
+        });
+        index.put(new GeoPoint(key, lat, lng, null, null));
+    }
+
+    public void unregister(String sessionId) {
+        Long key = keyBySession.remove(sessionId);
+        if (key != null) {
+            index.remove(key);
+            sessionByKey.remove(key);
+        }
+    }
+
+    public List<String> sessionsIn(GeoArea area) {
+        List<GeoPoint> points = index.withinBox(area.minLat(), area.minLng(), area.maxLat(), area.maxLng(),
+                p -> area.contains(p.latitude(), p.longitude()));
+        List<String> sessions = new ArrayList<>(points.size());
+        for (GeoPoint point : points) {
+            String sessionId = sessionByKey.get(point.id());
+            if (sessionId != null) {
+                sessions.add(sessionId);
+            }
+        }
+        return sessions;
+    }
+}
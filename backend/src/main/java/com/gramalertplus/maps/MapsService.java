@@ -1,94 +1,160 @@
 package com.gramalertplus.maps;
 
+import com.gramalertplus.dto.MapMarkerDto;
+import com.gramalertplus.dto.MapTileDto;
+import com.gramalertplus.entity.Grievance;
+import com.gramalertplus.repository.GrievanceLocation;
+import com.gramalertplus.repository.GrievanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Predicate;
+
 /**
- * Maps Service Placeholder
- * 
+ * Maps Service
+ *
+ * Spatial queries over grievance locations are answered from an in-memory GeoGridIndex instead of the
+ * database. The index is loaded once at startup from a lightweight projection and then kept current by
+ * GrievanceService (create, update, status change), so radius / bounding-box / nearest lookups never
+ * scan the grievances table.
+ *
  * TODO: Integrate Leaflet/OpenStreetMap or Google Maps API here
- * 
- * For OpenStreetMap/Leaflet (Free):
- * 
+ *
  * 1. Frontend Integration (Already has placeholder in MapPicker.tsx):
  *    - Install: npm install leaflet react-leaflet
  *    - Import CSS: import 'leaflet/dist/leaflet.css'
  *    - Use MapContainer, TileLayer, Marker components
- * 
- *    Example:
- *    <MapContainer center={[10.8505, 76.2711]} zoom={13}>
- *      <TileLayer
- *        url="https://{s}.tile.openstreetmap.org/{z}/{x}/{y}.png"
- *        attribution='&copy; OpenStreetMap contributors'
- *      />
- *      <Marker position={[lat, lng]}>
- *        <Popup>Location</Popup>
- *      </Marker>
- *    </MapContainer>
- * 
+ *
  * 2. Backend Integration (Optional - for geocoding):
  *    - Use Nominatim API (free OpenStreetMap geocoding)
  *    - Convert addresses to coordinates
  *    - Reverse geocoding (coordinates to address)
- * 
+ *
  *    Example API call:
  *    https://nominatim.openstreetmap.org/search?q=Kerala,India&format=json
- * 
+ *
+ * Marker clustering for the admin map is done server-side: getTile() returns pre-aggregated clusters
+ * for a {z}/{x}/{y} tile, cached until a grievance inside that tile changes.
+ *
  * 3. Features to implement:
- *    - Location picker on grievance submission
- *    - Display grievances on map (admin dashboard)
- *    - Cluster markers for multiple grievances in same area
- *    - Filter map by category/status
  *    - Show affected area for alerts
- * 
- * For Google Maps (Paid, but has free tier):
- * 
- * 1. Get API key from Google Cloud Console
- * 2. Install: npm install @react-google-maps/api
- * 3. Use GoogleMap, Marker components
- * 4. Enable Places API for address autocomplete
- * 
- * Example Service Method:
- * 
- * public class MapsService {
- *     
- *     public Map<String, Double> geocodeAddress(String address) {
- *         // Call Nominatim API or Google Geocoding API
- *         // Return latitude and longitude
- *         return Map.of("lat", 10.8505, "lng", 76.2711);
- *     }
- *     
- *     public String reverseGeocode(double lat, double lng) {
- *         // Convert coordinates to human-readable address
- *         return "Kerala, India";
- *     }
- *     
- *     public List<Grievance> getGrievancesInRadius(double lat, double lng, double radiusKm) {
- *         // Find all grievances within radius
- *         // Use Haversine formula or PostGIS for distance calculation
- *         return new ArrayList<>();
- *     }
- * }
  */
+@Service
 public class MapsService {
-    // This class will contain map integration methods when implemented
-    
+
+    private static final Logger logger = LoggerFactory.getLogger(MapsService.class);
+
+    @Autowired
+    private GrievanceRepository grievanceRepository;
+
+    private final GeoGridIndex index;
+    private final TileCache tileCache;
+
+    // ~0.01 degrees is roughly a 1km cell, which suits village-scale radius queries
+    public MapsService(@Value("${maps.index.cell-size-degrees:0.01}") double cellSizeDegrees,
+                       @Value("${maps.tiles.cache-size:10000}") int tileCacheSize) {
+        this.index = new GeoGridIndex(cellSizeDegrees);
+        this.tileCache = new TileCache(index, tileCacheSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        List<GrievanceLocation> locations = grievanceRepository.findAllLocations();
+        for (GrievanceLocation location : locations) {
+            index.put(new GeoPoint(location.id(), location.latitude(), location.longitude(), location.category(), location.status()));
+        }
+        tileCache.clear();
+        logger.info("Spatial index loaded with {} grievance locations.", index.size());
+    }
+
+    // Call after a grievance is created or changed. Grievances without coordinates are dropped from the index.
+    public void indexGrievance(Grievance grievance) {
+        if (grievance.getId() == null) {
+            return;
+        }
+        if (grievance.getLatitude() == null || grievance.getLongitude() == null) {
+            removeGrievance(grievance.getId());
+            return;
+        }
+        GeoPoint point = new GeoPoint(grievance.getId(), grievance.getLatitude(), grievance.getLongitude(),
+                grievance.getCategory(), grievance.getStatus());
+        GeoPoint previous = index.put(point);
+        if (!point.equals(previous)) {
+            invalidateTiles(previous);
+            invalidateTiles(point);
+        }
+    }
+
+    public void removeGrievance(Long grievanceId) {
+        invalidateTiles(index.remove(grievanceId));
+    }
+
+    public MapTileDto getTile(int z, int x, int y) {
+        if (!TileMath.isValid(z, x, y)) {
+            throw new IllegalArgumentException("Invalid tile " + z + "/" + x + "/" + y);
+        }
+        return tileCache.get(z, x, y);
+    }
+
+    public List<MapMarkerDto> getGrievancesInRadius(double lat, double lng, double radiusKm, String category, boolean includeResolved) {
+        return index.withinRadius(lat, lng, radiusKm, filter(category, includeResolved)).stream()
+                .map(n -> toMarker(n.point(), n.distanceKm()))
+                .toList();
+    }
+
+    public List<MapMarkerDto> getGrievancesInBox(double minLat, double minLng, double maxLat, double maxLng,
+                                                 String category, boolean includeResolved) {
+        return index.withinBox(minLat, minLng, maxLat, maxLng, filter(category, includeResolved)).stream()
+                .map(p -> toMarker(p, null))
+                .toList();
+    }
+
+    public List<MapMarkerDto> getNearestGrievances(double lat, double lng, int k, double maxRadiusKm,
+                                                   String category, boolean includeResolved) {
+        return index.nearest(lat, lng, k, maxRadiusKm, filter(category, includeResolved)).stream()
+                .map(n -> toMarker(n.point(), n.distanceKm()))
+                .toList();
+    }
+
+    /**
+     * Great-circle distance in kilometres (Haversine formula)
+     */
+    public double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
+        return GeoGridIndex.haversineKm(lat1, lng1, lat2, lng2);
+    }
+
     /**
      * TODO: Implement geocoding (address to coordinates)
      */
     public void geocodeAddress(String address) {
         // Implementation pending
     }
-    
+
     /**
      * TODO: Implement reverse geocoding (coordinates to address)
      */
     public void reverseGeocode(double latitude, double longitude) {
         // Implementation pending
     }
-    
-    /**
-     * TODO: Calculate distance between two points
-     */
-    public void calculateDistance(double lat1, double lng1, double lat2, double lng2) {
-        // Use Haversine formula
-        // Implementation pending
+
+    private void invalidateTiles(GeoPoint point) {
+        if (point != null) {
+            tileCache.invalidate(point.latitude(), point.longitude());
+        }
+    }
+
+    private static Predicate<GeoPoint> filter(String category, boolean includeResolved) {
+        return p -> (includeResolved || !p.isResolved())
+                && (category == null || category.equalsIgnoreCase(p.category()));
+    }
+
+    private static MapMarkerDto toMarker(GeoPoint point, Double distanceKm) {
+        return new MapMarkerDto(point.id(), point.latitude(), point.longitude(), point.category(), point.status(), distanceKm);
     }
 }
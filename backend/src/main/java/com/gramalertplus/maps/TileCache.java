@@ -0,0 +1,123 @@
+package com.gramalertplus.maps;
+
+import com.gramalertplus.dto.MapClusterDto;
+import com.gramalertplus.dto.MapTileDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of clustered map tiles built from a GeoGridIndex.
+ *
+ * Each tile is split into a CLUSTER_GRID x CLUSTER_GRID grid and every non-empty sub-cell becomes one
+ * cluster with its centroid and per-category / per-status counts. When a point is added, moved or removed,
+ * only the one tile per zoom level that contains it is dropped from the cache; every other tile stays valid.
+ */
+class TileCache {
+
+    static final int CLUSTER_GRID = 8;
+
+    private final GeoGridIndex index;
+    private final int maxEntries;
+    private final Map<Long, MapTileDto> tiles = new ConcurrentHashMap<>();
+    // Bumped on every invalidation so a tile built from data that changed mid-build is not cached.
+    // Only changed under this object's lock, which also covers the check-and-put in get().
+    private final AtomicLong generation = new AtomicLong();
+
+    TileCache(GeoGridIndex index, int maxEntries) {
+        this.index = index;
+        this.maxEntries = maxEntries;
+    }
+
+    MapTileDto get(int z, int x, int y) {
+        long key = key(z, x, y);
+        MapTileDto tile = tiles.get(key);
+        if (tile != null) {
+            return tile;
+        }
+        long startedAt = generation.get();
+        tile = build(z, x, y);
+        synchronized (this) {
+            if (generation.get() == startedAt) {
+                if (tiles.size() >= maxEntries) {
+                    // Crude but cheap bound; the hot tiles are rebuilt on their next request.
+                    tiles.clear();
+                }
+                tiles.put(key, tile);
+            }
+        }
+        return tile;
+    }
+
+    // Drops every cached tile (one per zoom level) that contains the given point.
+    synchronized void invalidate(double lat, double lng) {
+        generation.incrementAndGet();
+        if (tiles.isEmpty()) {
+            return;
+        }
+        for (int z = 0; z <= TileMath.MAX_ZOOM; z++) {
+            int x = clampTile((int) Math.floor(TileMath.tileX(lng, z)), z);
+            int y = clampTile((int) Math.floor(TileMath.tileY(lat, z)), z);
+            tiles.remove(key(z, x, y));
+        }
+    }
+
+    synchronized void clear() {
+        generation.incrementAndGet();
+        tiles.clear();
+    }
+
+    private MapTileDto build(int z, int x, int y) {
+        double west = TileMath.lng(x, z), east = TileMath.lng(x + 1, z);
+        double north = TileMath.lat(y, z), south = TileMath.lat(y + 1, z);
+        List<GeoPoint> points = index.withinBox(south, west, north, east, p -> true);
+
+        Map<Integer, Accumulator> cells = new HashMap<>();
+        for (GeoPoint point : points) {
+            int cx = clampCell((int) ((TileMath.tileX(point.longitude(), z) - x) * CLUSTER_GRID));
+            int cy = clampCell((int) ((TileMath.tileY(point.latitude(), z) - y) * CLUSTER_GRID));
+            cells.computeIfAbsent(cy * CLUSTER_GRID + cx, c -> new Accumulator()).add(point);
+        }
+
+        List<MapClusterDto> clusters = new ArrayList<>(cells.size());
+        cells.values().forEach(acc -> clusters.add(acc.toDto()));
+        return new MapTileDto(z, x, y, points.size(), List.copyOf(clusters));
+    }
+
+    private static int clampCell(int cell) {
+        return Math.max(0, Math.min(CLUSTER_GRID - 1, cell));
+    }
+
+    private static int clampTile(int tile, int z) {
+        return Math.max(0, Math.min((1 << z) - 1, tile));
+    }
+
+    private static long key(int z, int x, int y) {
+        // z <= 20 so x and y fit in 21 bits each
+        return ((long) z << 42) | ((long) x << 21) | y;
+    }
+
+    private static class Accumulator {
+        private double latSum;
+        private double lngSum;
+        private int count;
+        private final Map<String, Integer> categories = new HashMap<>();
+        private final Map<String, Integer> statuses = new HashMap<>();
+
+        void add(GeoPoint point) {
+            latSum += point.latitude();
+            lngSum += point.longitude();
+            count++;
+            categories.merge(String.valueOf(point.category()), 1, Integer::sum);
+            statuses.merge(String.valueOf(point.status()), 1, Integer::sum);
+        }
+
+        MapClusterDto toDto() {
+            return new MapClusterDto(latSum / count, lngSum / count, count, Map.copyOf(categories), Map.copyOf(statuses));
+        }
+    }
+}
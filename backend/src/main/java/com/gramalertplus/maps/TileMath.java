@@ -0,0 +1,37 @@
+package com.gramalertplus.maps;
+
+// Web Mercator (slippy map) tile arithmetic, matching the {z}/{x}/{y} scheme Leaflet and OSM use.
+final class TileMath {
+
+    static final int MAX_ZOOM = 20;
+
+    private TileMath() {}
+
+    static boolean isValid(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM) {
+            return false;
+        }
+        int tiles = 1 << z;
+        return x >= 0 && x < tiles && y >= 0 && y < tiles;
+    }
+
+    // Fractional tile coordinates of a point at zoom z; the integer part is the tile, the rest the position inside it.
+    static double tileX(double lng, int z) {
+        return (lng + 180.0) / 360.0 * (1 << z);
+    }
+
+    static double tileY(double lat, int z) {
+        double clamped = Math.max(-85.05112878, Math.min(85.05112878, lat));
+        double rad = Math.toRadians(clamped);
+        return (1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2 * (1 << z);
+    }
+
+    static double lng(int x, int z) {
+        return x / (double) (1 << z) * 360.0 - 180.0;
+    }
+
+    static double lat(int y, int z) {
+        double n = Math.PI - 2.0 * Math.PI * y / (1 << z);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+}
@@ -4,5 +4,12 @@ import com.gramalertplus.entity.Alert;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
-public interface AlertRepository extends JpaRepository<Alert, Long> {}
\ No newline at end of file
+public interface AlertRepository extends JpaRepository<Alert, Long> {
+
+    // Alerts that are active or upcoming at the given time
+    List<Alert> findByEndTimeIsNullOrEndTimeAfter(LocalDateTime time);
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+// In backend/src/main/java/com/gramalertplus/repository/EscalatedGrievance.java
+package com.gramalertplus.repository;
+
+import java.time.LocalDateTime;
+
+// A grievance that was just moved up the escalation ladder, as returned by the escalation UPDATE.
+// previousPriority / wasOverdue are the values from before the update, for keeping counters in step.
+public record EscalatedGrievance(
+    Long id,
+    String title,
+    String category,
+    String status,
+    Long userId,
+    LocalDateTime deadline,
+    int level,
+    String previousPriority,
+    boolean wasOverdue
+) {}
@@ -0,0 +1,63 @@
+// In backend/src/main/java/com/gramalertplus/repository/EscalationJdbcRepository.java
+package com.gramalertplus.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Set-based escalation writes. Plain JDBC because we need UPDATE ... RETURNING and batched inserts,
+// neither of which JPQL gives us.
+@Repository
+public class EscalationJdbcRepository {
+
+    // The self-join on a locked snapshot lets RETURNING report the priority/overdue values from before the update.
+    private static final String ESCALATE_SQL =
+            "UPDATE grievances g SET is_overdue = TRUE, priority = 'High', escalation_level = :level, updated_at = :now " +
+            "FROM (SELECT id, priority, is_overdue FROM grievances WHERE id IN (:ids) FOR UPDATE) old " +
+            "WHERE g.id = old.id AND g.status <> 'Resolved' AND COALESCE(g.escalation_level, 0) < :level " +
+            "RETURNING g.id, g.title, g.category, g.status, g.user_id, g.deadline, " +
+            "old.priority AS previous_priority, old.is_overdue AS was_overdue";
+
+    private static final String INSERT_ESCALATION_SQL =
+            "INSERT INTO escalations (grievance_id, escalated_to, escalation_level, escalated_at) " +
+            "VALUES (:grievanceId, :escalatedTo, :level, :escalatedAt)";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Moves the given grievances to the given level and appends one escalations row per grievance that
+    // actually changed. Ids that were resolved or already at/above the level in the meantime are skipped.
+    @Transactional
+    public List<EscalatedGrievance> escalate(Collection<Long> ids, int level, String escalatedTo, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("level", level)
+                .addValue("now", Timestamp.valueOf(now));
+        List<EscalatedGrievance> escalated = jdbcTemplate.query(ESCALATE_SQL, params, (rs, rowNum) -> {
+            Timestamp deadline = rs.getTimestamp("deadline");
+            return new EscalatedGrievance(rs.getLong("id"), rs.getString("title"), rs.getString("category"),
+                    rs.getString("status"), rs.getLong("user_id"), deadline != null ? deadline.toLocalDateTime() : null,
+                    level, rs.getString("previous_priority"), rs.getBoolean("was_overdue"));
+        });
+
+        if (!escalated.isEmpty()) {
+            SqlParameterSource[] batch = escalated.stream()
+                    .map(g -> new MapSqlParameterSource()
+                            .addValue("grievanceId", g.id())
+                            .addValue("escalatedTo", escalatedTo)
+                            .addValue("level", level)
+                            .addValue("escalatedAt", Timestamp.valueOf(now)))
+                    .toArray(SqlParameterSource[]::new);
+            jdbcTemplate.batchUpdate(INSERT_ESCALATION_SQL, batch);
+        }
+        return escalated;
+    }
+}
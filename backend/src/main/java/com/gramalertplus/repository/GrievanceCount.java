@@ -0,0 +1,5 @@
+// In backend/src/main/java/com/gramalertplus/repository/GrievanceCount.java
+package com.gramalertplus.repository;
+
+// One row of the category x status x priority x overdue aggregate used to reconcile dashboard counters.
+public record GrievanceCount(String category, String status, String priority, boolean isOverdue, long count) {}
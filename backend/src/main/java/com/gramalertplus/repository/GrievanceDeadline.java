@@ -0,0 +1,7 @@
+// In backend/src/main/java/com/gramalertplus/repository/GrievanceDeadline.java
+package com.gramalertplus.repository;
+
+import java.time.LocalDateTime;
+
+// Minimal projection used to (re)build the escalation scheduler's deadline queue.
+public record GrievanceDeadline(Long id, String category, LocalDateTime deadline, Integer escalationLevel) {}
@@ -0,0 +1,96 @@
+// In backend/src/main/java/com/gramalertplus/repository/GrievanceJdbcRepository.java
+package com.gramalertplus.repository;
+
+import com.gramalertplus.entity.Grievance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Set-based grievance writes that need UPDATE ... RETURNING, which JPQL can't express.
+@Repository
+public class GrievanceJdbcRepository {
+
+    // The locked "old" snapshot lets RETURNING report the values from before the update.
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE grievances g SET status = :status, updated_at = :now%s " +
+            "FROM (SELECT id, status, priority, is_overdue FROM grievances WHERE id IN (:ids) FOR UPDATE) old " +
+            "WHERE g.id = old.id " +
+            "RETURNING g.id, g.title, g.description, g.category, g.status, g.priority, g.user_id, g.latitude, g.longitude, " +
+            "g.file_url, g.deadline, g.is_overdue, g.report_count, g.escalation_level, g.created_at, g.updated_at, g.resolved_at, " +
+            "old.status AS previous_status, old.priority AS previous_priority, old.is_overdue AS was_overdue";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Applies every status in one transaction with one UPDATE per distinct status value.
+    @Transactional
+    public List<StatusChange> updateStatuses(Map<String, ? extends Collection<Long>> idsByStatus, LocalDateTime now) {
+        List<StatusChange> changes = new ArrayList<>();
+        idsByStatus.forEach((status, ids) -> {
+            String sql = String.format(UPDATE_STATUS_SQL, "Resolved".equals(status) ? ", resolved_at = :now" : "");
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("status", status)
+                    .addValue("now", Timestamp.valueOf(now))
+                    .addValue("ids", ids);
+            changes.addAll(jdbcTemplate.query(sql, params, (rs, rowNum) -> new StatusChange(mapGrievance(rs),
+                    rs.getString("previous_status"), rs.getString("previous_priority"), rs.getBoolean("was_overdue"))));
+        });
+        return changes;
+    }
+
+    // Deletes a grievance and records a tombstone so delta-sync clients learn about it.
+    // Returns the deleted row, or null if it didn't exist.
+    @Transactional
+    public Grievance deleteWithTombstone(Long id, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("now", Timestamp.valueOf(now));
+        jdbcTemplate.update("DELETE FROM escalations WHERE grievance_id = :id", params);
+        jdbcTemplate.update("DELETE FROM grievance_reports WHERE grievance_id = :id", params);
+        List<Grievance> deleted = jdbcTemplate.query("DELETE FROM grievances WHERE id = :id RETURNING *", params,
+                (rs, rowNum) -> mapGrievance(rs));
+        if (deleted.isEmpty()) {
+            return null;
+        }
+        jdbcTemplate.update("INSERT INTO grievance_tombstones (grievance_id, deleted_at) VALUES (:id, :now) " +
+                "ON CONFLICT (grievance_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at", params);
+        return deleted.get(0);
+    }
+
+    private static Grievance mapGrievance(ResultSet rs) throws SQLException {
+        Grievance grievance = new Grievance();
+        grievance.setId(rs.getLong("id"));
+        grievance.setTitle(rs.getString("title"));
+        grievance.setDescription(rs.getString("description"));
+        grievance.setCategory(rs.getString("category"));
+        grievance.setStatus(rs.getString("status"));
+        grievance.setPriority(rs.getString("priority"));
+        grievance.setUserId(rs.getLong("user_id"));
+        grievance.setLatitude(rs.getObject("latitude", Double.class));
+        grievance.setLongitude(rs.getObject("longitude", Double.class));
+        grievance.setFileUrl(rs.getString("file_url"));
+        grievance.setDeadline(toLocalDateTime(rs.getTimestamp("deadline")));
+        grievance.setOverdue(rs.getBoolean("is_overdue"));
+        grievance.setReportCount(rs.getObject("report_count", Integer.class));
+        grievance.setEscalationLevel(rs.getObject("escalation_level", Integer.class));
+        grievance.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        grievance.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        grievance.setResolvedAt(toLocalDateTime(rs.getTimestamp("resolved_at")));
+        return grievance;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,24 @@
+// In backend/src/main/java/com/gramalertplus/repository/GrievanceListItem.java
+package com.gramalertplus.repository;
+
+import java.time.LocalDateTime;
+
+// Read-only projection used by listing queries. The reporter's username is joined in
+// by the query itself, so building DTOs from these rows needs no extra user lookups.
+public record GrievanceListItem(
+    Long id,
+    String title,
+    String description,
+    String status,
+    String priority,
+    String category,
+    LocalDateTime createdAt,
+    String submittedBy,
+    Double latitude,
+    Double longitude,
+    String fileUrl,
+    boolean isOverdue,
+    Integer reportCount,
+    Integer escalationLevel,
+    LocalDateTime updatedAt
+) {}
@@ -0,0 +1,5 @@
+// In backend/src/main/java/com/gramalertplus/repository/GrievanceLocation.java
+package com.gramalertplus.repository;
+
+// Projection used to build the in-memory spatial index without loading full grievance rows.
+public record GrievanceLocation(Long id, Double latitude, Double longitude, String category, String status) {}
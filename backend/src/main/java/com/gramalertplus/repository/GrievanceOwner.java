@@ -0,0 +1,5 @@
+// In backend/src/main/java/com/gramalertplus/repository/GrievanceOwner.java
+package com.gramalertplus.repository;
+
+// Projection naming who reported a grievance, for bumping the right per-user versions.
+public record GrievanceOwner(Long id, Long userId) {}
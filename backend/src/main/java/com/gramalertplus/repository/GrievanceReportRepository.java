@@ -0,0 +1,10 @@
+// In backend/src/main/java/com/gramalertplus/repository/GrievanceReportRepository.java
+package com.gramalertplus.repository;
+
+import com.gramalertplus.entity.GrievanceReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GrievanceReportRepository extends JpaRepository<GrievanceReport, Long> {
+}
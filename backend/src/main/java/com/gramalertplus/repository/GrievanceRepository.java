@@ -3,15 +3,23 @@
 package com.gramalertplus.repository;
 
 import com.gramalertplus.entity.Grievance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface GrievanceRepository extends JpaRepository<Grievance, Long> {
+public interface GrievanceRepository extends JpaRepository<Grievance, Long>, GrievanceRepositoryCustom {
 
     // highlight-start
     // We are replacing the derived query with an explicit JPQL query 
@@ -19,4 +27,50 @@ public interface GrievanceRepository extends JpaRepository<Grievance, Long> {
     @Query("SELECT g FROM Grievance g WHERE g.userId = :userId ORDER BY g.createdAt DESC")
     List<Grievance> findGrievancesByUserId(@Param("userId") Long userId);
     // highlight-end
+
+    // Grievances another villager reported first and this user's report was merged into
+    @Query("SELECT g FROM Grievance g WHERE g.userId <> :userId AND g.id IN " +
+           "(SELECT r.grievanceId FROM GrievanceReport r WHERE r.userId = :userId) ORDER BY g.createdAt DESC")
+    List<Grievance> findCoReportedByUserId(@Param("userId") Long userId);
+
+    // Served by the partial idx_grievances_pending_deadline; never touches resolved history or grievances at the top of the ladder.
+    @Query("SELECT new com.gramalertplus.repository.GrievanceDeadline(g.id, g.category, g.deadline, g.escalationLevel) " +
+           "FROM Grievance g WHERE (g.escalationLevel IS NULL OR g.escalationLevel < :maxLevel) " +
+           "AND g.deadline IS NOT NULL AND g.status <> 'Resolved'")
+    List<GrievanceDeadline> findPendingDeadlines(@Param("maxLevel") int maxLevel);
+
+    @Query("SELECT new com.gramalertplus.repository.GrievanceLocation(g.id, g.latitude, g.longitude, g.category, g.status) " +
+           "FROM Grievance g WHERE g.latitude IS NOT NULL AND g.longitude IS NOT NULL")
+    List<GrievanceLocation> findAllLocations();
+
+    // Open grievances created since the given time (idx_grievances_created_id), for the duplicate detector.
+    @Query("SELECT new com.gramalertplus.repository.GrievanceText(g.id, g.title, g.description, g.category, g.createdAt, g.latitude, g.longitude) " +
+           "FROM Grievance g WHERE g.createdAt >= :since AND g.status <> 'Resolved'")
+    List<GrievanceText> findOpenTextsCreatedSince(@Param("since") LocalDateTime since);
+
+    // Every grievance showing a stored file; deduplicated uploads can be shared (idx_grievances_file_url).
+    @Query("SELECT new com.gramalertplus.repository.GrievanceOwner(g.id, g.userId) FROM Grievance g WHERE g.fileUrl = :fileUrl")
+    List<GrievanceOwner> findOwnersByFileUrl(@Param("fileUrl") String fileUrl);
+
+    // Merges a duplicate report into an open grievance. Returns 0 if it was resolved in the meantime.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Grievance g SET g.reportCount = COALESCE(g.reportCount, 1) + 1, g.updatedAt = :now " +
+           "WHERE g.id = :id AND g.status <> 'Resolved'")
+    int incrementReportCount(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Walks the table by primary key in fixed-size chunks, e.g. for rebuilding the search index.
+    @Query("SELECT new com.gramalertplus.repository.GrievanceText(g.id, g.title, g.description, g.category, g.createdAt, g.latitude, g.longitude) " +
+           "FROM Grievance g WHERE g.id > :afterId ORDER BY g.id")
+    List<GrievanceText> findTextsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.gramalertplus.repository.GrievanceCount(g.category, g.status, g.priority, g.isOverdue, COUNT(g)) " +
+           "FROM Grievance g GROUP BY g.category, g.status, g.priority, g.isOverdue")
+    List<GrievanceCount> countByBreakdown();
+
+    // Forward-only stream over resolved history; must be consumed inside a transaction.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.gramalertplus.repository.ResolvedGrievance(g.category, g.escalationLevel, g.createdAt, g.deadline, g.resolvedAt) " +
+           "FROM Grievance g WHERE g.resolvedAt IS NOT NULL")
+    Stream<ResolvedGrievance> streamResolved();
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+// In backend/src/main/java/com/gramalertplus/repository/GrievanceRepositoryCustom.java
+package com.gramalertplus.repository;
+
+import com.gramalertplus.dto.GrievanceFilter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface GrievanceRepositoryCustom {
+
+    // Keyset page ordered by (createdAt, id) descending. Pass null for afterCreatedAt/afterId to start from the top.
+    List<GrievanceListItem> findPage(GrievanceFilter filter, LocalDateTime afterCreatedAt, Long afterId, int limit);
+
+    // Rows written after (afterUpdatedAt, afterId) and no later than upTo, oldest first. Used for delta sync.
+    List<GrievanceListItem> findChangedSince(LocalDateTime afterUpdatedAt, Long afterId, LocalDateTime upTo, int limit);
+
+    // Every matching row in the same order, read through a server-side cursor. Must be consumed (and closed)
+    // inside a transaction.
+    Stream<GrievanceListItem> streamAll(GrievanceFilter filter);
+}
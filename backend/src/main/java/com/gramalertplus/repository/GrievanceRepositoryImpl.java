@@ -0,0 +1,112 @@
+// In backend/src/main/java/com/gramalertplus/repository/GrievanceRepositoryImpl.java
+package com.gramalertplus.repository;
+
+import com.gramalertplus.dto.GrievanceFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Spring Data picks this up as the implementation of GrievanceRepositoryCustom.
+public class GrievanceRepositoryImpl implements GrievanceRepositoryCustom {
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final String SELECT_LIST_ITEM =
+            "SELECT new com.gramalertplus.repository.GrievanceListItem(" +
+            "g.id, g.title, g.description, g.status, g.priority, g.category, g.createdAt, u.username, " +
+            "g.latitude, g.longitude, g.fileUrl, g.isOverdue, g.reportCount, g.escalationLevel, g.updatedAt) " +
+            "FROM Grievance g LEFT JOIN User u ON u.id = g.userId";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<GrievanceListItem> findPage(GrievanceFilter filter, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT_LIST_ITEM).append(" WHERE 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+        appendFilter(jpql, params, filter);
+
+        // A row-value comparison on exactly the columns we order by, so the (filter, created_at, id) indexes can
+        // seek straight to the page; the equivalent OR form can't be used as a single index range start.
+        // Hibernate can't type a tuple of bare parameters, hence the casts (on the parameters, not the columns).
+        if (afterCreatedAt != null && afterId != null) {
+            jpql.append(" AND (g.createdAt, g.id) < (CAST(:afterCreatedAt AS LocalDateTime), CAST(:afterId AS Long))");
+            params.put("afterCreatedAt", afterCreatedAt);
+            params.put("afterId", afterId);
+        }
+        jpql.append(" ORDER BY g.createdAt DESC, g.id DESC");
+
+        TypedQuery<GrievanceListItem> query = entityManager.createQuery(jpql.toString(), GrievanceListItem.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<GrievanceListItem> findChangedSince(LocalDateTime afterUpdatedAt, Long afterId, LocalDateTime upTo, int limit) {
+        String jpql = SELECT_LIST_ITEM +
+                " WHERE (g.updatedAt, g.id) > (CAST(:afterUpdatedAt AS LocalDateTime), CAST(:afterId AS Long))" +
+                " AND g.updatedAt <= :upTo" +
+                " ORDER BY g.updatedAt ASC, g.id ASC";
+        return entityManager.createQuery(jpql, GrievanceListItem.class)
+                .setParameter("afterUpdatedAt", afterUpdatedAt)
+                .setParameter("afterId", afterId)
+                .setParameter("upTo", upTo)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<GrievanceListItem> streamAll(GrievanceFilter filter) {
+        StringBuilder jpql = new StringBuilder(SELECT_LIST_ITEM).append(" WHERE 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+        appendFilter(jpql, params, filter);
+        jpql.append(" ORDER BY g.createdAt DESC, g.id DESC");
+
+        TypedQuery<GrievanceListItem> query = entityManager.createQuery(jpql.toString(), GrievanceListItem.class);
+        params.forEach(query::setParameter);
+        // Without a fetch size the PostgreSQL driver buffers the whole result set in memory
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream();
+    }
+
+    // Only non-null filters end up in the WHERE clause, which keeps the generated SQL index-friendly
+    // (no "(:x IS NULL OR col = :x)" predicates that defeat the planner).
+    private void appendFilter(StringBuilder jpql, Map<String, Object> params, GrievanceFilter filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.status() != null) {
+            jpql.append(" AND g.status = :status");
+            params.put("status", filter.status());
+        }
+        if (filter.category() != null) {
+            jpql.append(" AND g.category = :category");
+            params.put("category", filter.category());
+        }
+        if (filter.priority() != null) {
+            jpql.append(" AND g.priority = :priority");
+            params.put("priority", filter.priority());
+        }
+        if (filter.overdue() != null) {
+            jpql.append(" AND g.isOverdue = :overdue");
+            params.put("overdue", filter.overdue());
+        }
+        if (filter.from() != null) {
+            jpql.append(" AND g.createdAt >= :from");
+            params.put("from", filter.from());
+        }
+        if (filter.to() != null) {
+            jpql.append(" AND g.createdAt < :to");
+            params.put("to", filter.to());
+        }
+    }
+}
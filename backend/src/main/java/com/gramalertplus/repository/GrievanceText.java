@@ -0,0 +1,15 @@
+// In backend/src/main/java/com/gramalertplus/repository/GrievanceText.java
+package com.gramalertplus.repository;
+
+import java.time.LocalDateTime;
+
+// Projection with the text and location of a grievance, used to warm in-memory text indexes.
+public record GrievanceText(
+    Long id,
+    String title,
+    String description,
+    String category,
+    LocalDateTime createdAt,
+    Double latitude,
+    Double longitude
+) {}
@@ -0,0 +1,24 @@
+package com.gramalertplus.repository;
+
+import com.gramalertplus.entity.GrievanceTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface GrievanceTombstoneRepository extends JpaRepository<GrievanceTombstone, Long> {
+
+    @Query("SELECT t.grievanceId FROM GrievanceTombstone t WHERE t.deletedAt > :after AND t.deletedAt <= :upTo ORDER BY t.deletedAt")
+    List<Long> findIdsDeletedBetween(@Param("after") LocalDateTime after, @Param("upTo") LocalDateTime upTo);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GrievanceTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,13 @@
+// In backend/src/main/java/com/gramalertplus/repository/ResolvedGrievance.java
+package com.gramalertplus.repository;
+
+import java.time.LocalDateTime;
+
+// Timestamps of a resolved grievance, streamed to rebuild the SLA histograms.
+public record ResolvedGrievance(
+    String category,
+    Integer escalationLevel,
+    LocalDateTime createdAt,
+    LocalDateTime deadline,
+    LocalDateTime resolvedAt
+) {}
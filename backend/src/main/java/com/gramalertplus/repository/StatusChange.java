@@ -0,0 +1,7 @@
+// In backend/src/main/java/com/gramalertplus/repository/StatusChange.java
+package com.gramalertplus.repository;
+
+import com.gramalertplus.entity.Grievance;
+
+// A grievance row as it is after a bulk status update, plus the values it had before.
+public record StatusChange(Grievance grievance, String previousStatus, String previousPriority, boolean wasOverdue) {}
@@ -0,0 +1,51 @@
+// In backend/src/main/java/com/gramalertplus/repository/StoredFileJdbcRepository.java
+package com.gramalertplus.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Reference counting for the content-addressed upload store. Both operations are single statements,
+// so concurrent uploads of the same content can't lose a count.
+@Repository
+public class StoredFileJdbcRepository {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Adds a reference to the content, registering it on first sight. Returns the content's URL, which is
+    // the one recorded by the first upload (a later copy may have arrived with a different extension).
+    public String acquire(String hash, String url, long sizeBytes, String contentType, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("hash", hash)
+                .addValue("url", url)
+                .addValue("size", sizeBytes)
+                .addValue("contentType", contentType)
+                .addValue("now", Timestamp.valueOf(now));
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO stored_files (hash, url, size_bytes, content_type, ref_count, created_at) " +
+                "VALUES (:hash, :url, :size, :contentType, 1, :now) " +
+                "ON CONFLICT (hash) DO UPDATE SET ref_count = stored_files.ref_count + 1 " +
+                "RETURNING url", params, String.class);
+    }
+
+    // Drops one reference to the file at url. Returns true if that was the last one and the row is gone,
+    // false if other references remain or the url isn't a content-addressed upload.
+    @Transactional
+    public boolean release(String url) {
+        MapSqlParameterSource params = new MapSqlParameterSource("url", url);
+        List<Integer> remaining = jdbcTemplate.queryForList(
+                "UPDATE stored_files SET ref_count = ref_count - 1 WHERE url = :url RETURNING ref_count", params, Integer.class);
+        if (remaining.isEmpty() || remaining.get(0) > 0) {
+            return false;
+        }
+        jdbcTemplate.update("DELETE FROM stored_files WHERE url = :url AND ref_count <= 0", params);
+        return true;
+    }
+}
@@ -0,0 +1,145 @@
+package com.gramalertplus.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index with BM25 ranking and prefix expansion.
+ *
+ * Postings are term -> (document -> term frequency). The term dictionary is kept sorted so a prefix query
+ * is a range scan over the dictionary rather than a walk over every term.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_WEIGHT = 0.6;
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+
+    private final Map<String, Map<DocKey, Integer>> postings = new ConcurrentHashMap<>();
+    private final NavigableSet<String> dictionary = new ConcurrentSkipListSet<>();
+    private final Map<DocKey, IndexedDoc> docs = new ConcurrentHashMap<>();
+    private final AtomicLong totalLength = new AtomicLong();
+
+    public int size() {
+        return docs.size();
+    }
+
+    // Tokenizing is the expensive part and needs no lock, so callers can prepare documents in parallel.
+    public static PreparedDoc prepare(DocKey key, String title, String body, String category) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        // Title terms are counted twice so title matches rank higher
+        Tokenizer.tokenize(title).forEach(t -> termFrequencies.merge(t, 2, Integer::sum));
+        Tokenizer.tokenize(body).forEach(t -> termFrequencies.merge(t, 1, Integer::sum));
+        return new PreparedDoc(key, title, category, termFrequencies);
+    }
+
+    public void index(DocKey key, String title, String body, String category) {
+        add(prepare(key, title, body, category));
+    }
+
+    // Adds or replaces a prepared document.
+    public synchronized void add(PreparedDoc doc) {
+        remove(doc.key());
+        int length = doc.termFrequencies().values().stream().mapToInt(Integer::intValue).sum();
+        docs.put(doc.key(), new IndexedDoc(doc.title(), doc.category(), length, doc.termFrequencies().keySet()));
+        totalLength.addAndGet(length);
+        doc.termFrequencies().forEach((term, tf) -> {
+            postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(doc.key(), tf);
+            dictionary.add(term);
+        });
+    }
+
+    public synchronized void remove(DocKey key) {
+        IndexedDoc previous = docs.remove(key);
+        if (previous == null) {
+            return;
+        }
+        totalLength.addAndGet(-previous.length());
+        for (String term : previous.terms()) {
+            postings.computeIfPresent(term, (t, docsForTerm) -> {
+                docsForTerm.remove(key);
+                if (docsForTerm.isEmpty()) {
+                    dictionary.remove(t);
+                    return null;
+                }
+                return docsForTerm;
+            });
+        }
+    }
+
+    public synchronized void clear() {
+        postings.clear();
+        dictionary.clear();
+        docs.clear();
+        totalLength.set(0);
+    }
+
+    public List<Hit> search(String query, Predicate<DocKey> filter, int limit) {
+        List<String> terms = Tokenizer.tokenize(query);
+        if (terms.isEmpty() || docs.isEmpty()) {
+            return List.of();
+        }
+        int docCount = docs.size();
+        double avgLength = Math.max(1.0, totalLength.get() / (double) docCount);
+        Map<DocKey, Double> scores = new HashMap<>();
+
+        for (String term : terms) {
+            // Exact term at full weight, plus terms it is a prefix of (for type-ahead) at reduced weight
+            score(term, 1.0, filter, docCount, avgLength, scores);
+            int expansions = 0;
+            for (String candidate : dictionary.tailSet(term, false)) {
+                if (!candidate.startsWith(term) || ++expansions > MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                score(candidate, PREFIX_WEIGHT, filter, docCount, avgLength, scores);
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(scores.size());
+        scores.forEach((key, score) -> {
+            IndexedDoc doc = docs.get(key);
+            if (doc != null) {
+                hits.add(new Hit(key, doc.title(), doc.category(), score));
+            }
+        });
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    private void score(String term, double weight, Predicate<DocKey> filter, int docCount, double avgLength,
+                       Map<DocKey, Double> scores) {
+        Map<DocKey, Integer> docsForTerm = postings.get(term);
+        if (docsForTerm == null) {
+            return;
+        }
+        int df = docsForTerm.size();
+        double idf = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+        docsForTerm.forEach((key, tf) -> {
+            if (!filter.test(key)) {
+                return;
+            }
+            IndexedDoc doc = docs.get(key);
+            int length = doc != null ? doc.length() : (int) avgLength;
+            double tfPart = tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / avgLength));
+            scores.merge(key, weight * idf * tfPart, Double::sum);
+        });
+    }
+
+    public record DocKey(String type, Long id) {}
+
+    public record PreparedDoc(DocKey key, String title, String category, Map<String, Integer> termFrequencies) {}
+
+    public record Hit(DocKey key, String title, String category, double score) {}
+
+    private record IndexedDoc(String title, String category, int length, Set<String> terms) {}
+}
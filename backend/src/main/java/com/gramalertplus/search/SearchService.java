@@ -0,0 +1,98 @@
+package com.gramalertplus.search;
+
+import com.gramalertplus.dto.SearchResultDto;
+import com.gramalertplus.entity.Alert;
+import com.gramalertplus.entity.Grievance;
+import com.gramalertplus.repository.AlertRepository;
+import com.gramalertplus.repository.GrievanceRepository;
+import com.gramalertplus.repository.GrievanceText;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+/**
+ * Full-text search over grievance and alert titles/descriptions.
+ *
+ * Backed by an in-process InvertedIndex. GrievanceService and AlertService push every create, update and
+ * delete into it; at startup it is rebuilt by reading the tables in chunks on this thread while the
+ * chunks are tokenized in parallel on the common pool.
+ */
+@Service
+public class SearchService {
+
+    public static final String GRIEVANCE = "grievance";
+    public static final String ALERT = "alert";
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+    private static final int REBUILD_CHUNK_SIZE = 2000;
+
+    @Autowired
+    private GrievanceRepository grievanceRepository;
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        List<Alert> alerts = alertRepository.findAll();
+        pending.add(CompletableFuture.runAsync(() -> alerts.forEach(this::indexAlert)));
+
+        long afterId = 0;
+        while (true) {
+            List<GrievanceText> chunk = grievanceRepository.findTextsAfterId(afterId, PageRequest.ofSize(REBUILD_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).id();
+            pending.add(CompletableFuture.runAsync(() -> chunk.forEach(g -> index.add(InvertedIndex.prepare(
+                    new InvertedIndex.DocKey(GRIEVANCE, g.id()), g.title(), g.description(), g.category())))));
+        }
+
+        CompletableFuture.allOf(pending.toArray(CompletableFuture<?>[]::new)).join();
+        logger.info("Search index rebuilt with {} documents in {} ms.", index.size(), System.currentTimeMillis() - start);
+    }
+
+    public void indexGrievance(Grievance grievance) {
+        if (grievance.getId() != null) {
+            index.index(new InvertedIndex.DocKey(GRIEVANCE, grievance.getId()),
+                    grievance.getTitle(), grievance.getDescription(), grievance.getCategory());
+        }
+    }
+
+    public void removeGrievance(Long grievanceId) {
+        index.remove(new InvertedIndex.DocKey(GRIEVANCE, grievanceId));
+    }
+
+    public void indexAlert(Alert alert) {
+        if (alert.getId() != null) {
+            index.index(new InvertedIndex.DocKey(ALERT, alert.getId()),
+                    alert.getTitle(), alert.getDescription(), alert.getCategory());
+        }
+    }
+
+    public void removeAlert(Long alertId) {
+        index.remove(new InvertedIndex.DocKey(ALERT, alertId));
+    }
+
+    // type is "grievance", "alert" or null for both.
+    public List<SearchResultDto> search(String query, String type, int limit) {
+        Predicate<InvertedIndex.DocKey> filter = type == null ? key -> true : key -> key.type().equals(type);
+        return index.search(query, filter, limit).stream()
+                .map(hit -> new SearchResultDto(hit.key().type(), hit.key().id(), hit.title(), hit.category(), hit.score()))
+                .toList();
+    }
+}
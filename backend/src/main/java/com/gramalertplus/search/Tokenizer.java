@@ -0,0 +1,103 @@
+package com.gramalertplus.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tokenizer for mixed English / Malayalam / transliterated ("Manglish") text.
+ *
+ * - Malayalam script tokens keep their vowel signs and virama (combining marks), with ZWJ/ZWNJ removed so
+ *   chillu spellings with and without joiners match.
+ * - Latin tokens are lower-cased, stripped of diacritics and folded so common transliteration variants
+ *   collapse to the same term: "vellam"/"velam", "paani"/"pani", "thodu"/"todu", "kozhi"/"koli".
+ */
+public final class Tokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is", "it",
+            "its", "of", "on", "or", "our", "the", "there", "this", "to", "was", "we", "with");
+
+    private Tokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalised = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalised.length(); i++) {
+            char c = normalised.charAt(i);
+            if (c == '\u200C' || c == '\u200D') {
+                continue; // zero-width (non-)joiner inside Malayalam words
+            }
+            if (isTokenChar(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                addToken(tokens, current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            addToken(tokens, current.toString());
+        }
+        return tokens;
+    }
+
+    private static boolean isTokenChar(char c) {
+        if (Character.isLetterOrDigit(c)) {
+            return true;
+        }
+        int type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    private static void addToken(List<String> tokens, String raw) {
+        String token = isLatin(raw) ? foldLatin(raw) : raw.toLowerCase(Locale.ROOT);
+        if (token.length() < 2 || STOP_WORDS.contains(token)) {
+            return;
+        }
+        tokens.add(token);
+    }
+
+    private static boolean isLatin(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (Character.UnicodeScript.of(token.charAt(i)) == Character.UnicodeScript.MALAYALAM) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String foldLatin(String token) {
+        String lower = Normalizer.normalize(token.toLowerCase(Locale.ROOT), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        if (STOP_WORDS.contains(lower)) {
+            return lower;
+        }
+        String folded = lower
+                .replace("zh", "l")
+                .replace("th", "t")
+                .replace("dh", "d")
+                .replace("ph", "f")
+                .replace("bh", "b")
+                .replace("gh", "g")
+                .replace("kh", "k")
+                .replace("sh", "s")
+                .replace("ee", "i")
+                .replace("oo", "u")
+                .replace('w', 'v');
+        // Collapse doubled letters ("vellam" -> "velam", "paani" -> "pani")
+        StringBuilder sb = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (i == 0 || c != folded.charAt(i - 1) || Character.isDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,154 @@
+// In backend/src/main/java/com/gramalertplus/service/ActiveAlertStore.java
+package com.gramalertplus.service;
+
+import com.gramalertplus.dto.AlertDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * In-memory copy of every alert that hasn't ended yet, so the public GET /alerts never touches the database.
+ *
+ * Alerts are indexed by start time (splitting "active now" from "upcoming") and by end time (for expiry).
+ * Writers build a new immutable snapshot under a lock; readers just dereference the current one. Alerts
+ * are few and change rarely, so copying on write is cheaper than coordinating readers.
+ */
+@Component
+public class ActiveAlertStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActiveAlertStore.class);
+
+    // Null start/end times mean "since forever" / "until further notice"
+    private static final LocalDateTime OPEN_START = LocalDateTime.MIN;
+    private static final LocalDateTime OPEN_END = LocalDateTime.MAX;
+
+    private record TimeKey(LocalDateTime time, long id) implements Comparable<TimeKey> {
+        @Override
+        public int compareTo(TimeKey other) {
+            int byTime = time.compareTo(other.time);
+            return byTime != 0 ? byTime : Long.compare(id, other.id);
+        }
+    }
+
+    private record Snapshot(Map<Long, AlertDto> byId, NavigableMap<TimeKey, AlertDto> byStart, NavigableMap<TimeKey, Long> byEnd) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Collections.emptyNavigableMap(), Collections.emptyNavigableMap());
+    }
+
+    @Autowired
+    private CollectionVersions versions;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public synchronized void replaceAll(List<AlertDto> alerts) {
+        Map<Long, AlertDto> byId = new HashMap<>();
+        alerts.forEach(alert -> byId.put(alert.id(), alert));
+        snapshot = build(byId);
+        logger.info("Loaded {} active and upcoming alerts.", byId.size());
+    }
+
+    // Alerts in effect right now
+    public List<AlertDto> getActive() {
+        LocalDateTime now = LocalDateTime.now();
+        Snapshot current = snapshot;
+        List<AlertDto> active = new ArrayList<>();
+        for (AlertDto alert : current.byStart().headMap(new TimeKey(now, Long.MAX_VALUE), true).values()) {
+            // Expiry runs on a timer; don't serve anything that ended since the last tick
+            if (endOf(alert).isAfter(now)) {
+                active.add(alert);
+            }
+        }
+        return active;
+    }
+
+    // Alerts scheduled to start later, soonest first
+    public List<AlertDto> getUpcoming() {
+        return new ArrayList<>(snapshot.byStart().tailMap(new TimeKey(LocalDateTime.now(), Long.MAX_VALUE), false).values());
+    }
+
+    // The next time an alert starts or ends, i.e. when getActive()/getUpcoming() will change without any write.
+    // Null if nothing is scheduled.
+    public LocalDateTime nextTransition() {
+        TimeKey now = new TimeKey(LocalDateTime.now(), Long.MAX_VALUE);
+        Snapshot current = snapshot;
+        TimeKey nextStart = current.byStart().higherKey(now);
+        TimeKey nextEnd = current.byEnd().higherKey(now);
+        if (nextStart == null) {
+            return nextEnd != null ? nextEnd.time() : null;
+        }
+        return nextEnd == null || nextStart.time().isBefore(nextEnd.time()) ? nextStart.time() : nextEnd.time();
+    }
+
+    // The most recent start or end time that has passed. Together with the alerts version this identifies
+    // the content of getActive()/getUpcoming() without computing it.
+    public LocalDateTime lastTransition() {
+        TimeKey now = new TimeKey(LocalDateTime.now(), Long.MAX_VALUE);
+        Snapshot current = snapshot;
+        TimeKey lastStart = current.byStart().floorKey(now);
+        TimeKey lastEnd = current.byEnd().floorKey(now);
+        if (lastStart == null) {
+            return lastEnd != null ? lastEnd.time() : null;
+        }
+        return lastEnd == null || lastStart.time().isAfter(lastEnd.time()) ? lastStart.time() : lastEnd.time();
+    }
+
+    public synchronized void put(AlertDto alert) {
+        Map<Long, AlertDto> byId = new HashMap<>(snapshot.byId());
+        if (endOf(alert).isAfter(LocalDateTime.now())) {
+            byId.put(alert.id(), alert);
+        } else {
+            byId.remove(alert.id());
+        }
+        snapshot = build(byId);
+    }
+
+    public synchronized void remove(Long alertId) {
+        if (snapshot.byId().containsKey(alertId)) {
+            Map<Long, AlertDto> byId = new HashMap<>(snapshot.byId());
+            byId.remove(alertId);
+            snapshot = build(byId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${alerts.expiry-check-ms:30000}")
+    public void expire() {
+        LocalDateTime now = LocalDateTime.now();
+        if (snapshot.byEnd().headMap(new TimeKey(now, Long.MAX_VALUE), true).isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            Map<Long, AlertDto> byId = new HashMap<>(snapshot.byId());
+            snapshot.byEnd().headMap(new TimeKey(now, Long.MAX_VALUE), true).values().forEach(byId::remove);
+            snapshot = build(byId);
+        }
+        // Dropping an ended alert can make lastTransition() step back to an earlier time; a new version keeps
+        // the ETag of the post-expiry state distinct from the one before the alert ended
+        versions.alertsChanged();
+    }
+
+    private static Snapshot build(Map<Long, AlertDto> byId) {
+        TreeMap<TimeKey, AlertDto> byStart = new TreeMap<>();
+        TreeMap<TimeKey, Long> byEnd = new TreeMap<>();
+        byId.values().forEach(alert -> {
+            byStart.put(new TimeKey(alert.startTime() != null ? alert.startTime() : OPEN_START, alert.id()), alert);
+            if (alert.endTime() != null) {
+                byEnd.put(new TimeKey(alert.endTime(), alert.id()), alert.id());
+            }
+        });
+        return new Snapshot(Map.copyOf(byId), Collections.unmodifiableNavigableMap(byStart), Collections.unmodifiableNavigableMap(byEnd));
+    }
+
+    private static LocalDateTime endOf(AlertDto alert) {
+        return alert.endTime() != null ? alert.endTime() : OPEN_END;
+    }
+}
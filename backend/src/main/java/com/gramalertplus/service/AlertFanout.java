@@ -0,0 +1,147 @@
+// In backend/src/main/java/com/gramalertplus/service/AlertFanout.java
+package com.gramalertplus.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gramalertplus.dto.AlertAreaDto;
+import com.gramalertplus.dto.AlertDto;
+import com.gramalertplus.maps.GeoArea;
+import com.gramalertplus.maps.LocationSubscriptionIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Delivers alert updates over STOMP.
+ *
+ * Alerts without an area go to /topic/alerts as before. Alerts with an area go only to the sessions whose
+ * registered location is inside it, each on its own /user/queue/alerts, found through a
+ * LocationSubscriptionIndex. The payload is serialized once and the same bytes are sent to every session
+ * as a ready-made message, bypassing the template's converters (which would re-encode a byte[] as JSON).
+ * /topic/admin/alerts receives every alert regardless of area, for the admin dashboard.
+ */
+@Component
+public class AlertFanout {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertFanout.class);
+
+    private static final int MAX_POLYGON_VERTICES = 500;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LocationSubscriptionIndex subscribers;
+
+    public AlertFanout(@Value("${alerts.subscribers.cell-size-degrees:0.05}") double cellSizeDegrees) {
+        this.subscribers = new LocationSubscriptionIndex(cellSizeDegrees);
+    }
+
+    public void register(String sessionId, double lat, double lng) {
+        if (!isValidPoint(lat, lng)) {
+            return;
+        }
+        subscribers.register(sessionId, lat, lng);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        subscribers.unregister(event.getSessionId());
+    }
+
+    // previousArea is the alert's area before an update. Sessions that were inside it get the update too, so they
+    // can see from the new area that the alert no longer covers them and drop it.
+    public void publish(AlertDto alert, AlertAreaDto previousArea) {
+        messagingTemplate.convertAndSend("/topic/admin/alerts", alert);
+
+        GeoArea area = toGeoArea(alert.area());
+        GeoArea previous = toGeoArea(previousArea);
+        if (area == null) {
+            messagingTemplate.convertAndSend("/topic/alerts", alert);
+            return;
+        }
+
+        Set<String> recipients = new LinkedHashSet<>(subscribers.sessionsIn(area));
+        if (previous != null) {
+            recipients.addAll(subscribers.sessionsIn(previous));
+        }
+        sendToSessions(recipients, "/queue/alerts", alert);
+    }
+
+    // Parses and validates an area from the API; null means "no area". Throws IllegalArgumentException if malformed.
+    public static GeoArea toGeoArea(AlertAreaDto dto) {
+        if (dto == null || dto.type() == null) {
+            return null;
+        }
+        switch (dto.type().toLowerCase(Locale.ROOT)) {
+            case "circle":
+                if (dto.centerLat() == null || dto.centerLng() == null || dto.radiusKm() == null
+                        || !isValidPoint(dto.centerLat(), dto.centerLng()) || !(dto.radiusKm() > 0)) {
+                    throw new IllegalArgumentException("A circle area needs a valid centerLat, centerLng and a positive radiusKm.");
+                }
+                return GeoArea.circle(dto.centerLat(), dto.centerLng(), dto.radiusKm());
+            case "polygon":
+                List<double[]> vertices = dto.polygon();
+                if (vertices == null || vertices.size() < 3 || vertices.size() > MAX_POLYGON_VERTICES) {
+                    throw new IllegalArgumentException("A polygon area needs between 3 and " + MAX_POLYGON_VERTICES + " vertices.");
+                }
+                for (double[] vertex : vertices) {
+                    if (vertex == null || vertex.length != 2 || !isValidPoint(vertex[0], vertex[1])) {
+                        throw new IllegalArgumentException("Polygon vertices must be [lat, lng] pairs.");
+                    }
+                }
+                return GeoArea.polygon(vertices);
+            default:
+                throw new IllegalArgumentException("Unknown area type: " + dto.type());
+        }
+    }
+
+    private void sendToSessions(Collection<String> sessionIds, String destination, Object payload) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            logger.error("Could not serialize alert payload for {}", destination, e);
+            return;
+        }
+        for (String sessionId : sessionIds) {
+            messagingTemplate.send("/user/" + sessionId + destination, MessageBuilder.createMessage(body, headersFor(sessionId)));
+        }
+        logger.debug("Sent {} to {} sessions", destination, sessionIds.size());
+    }
+
+    // Addressing the user destination by session id (with a matching sessionId header) reaches that one
+    // connection, whether or not it is authenticated.
+    private static MessageHeaders headersFor(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    private static boolean isValidPoint(double lat, double lng) {
+        return lat >= -90.0 && lat <= 90.0 && lng >= -180.0 && lng <= 180.0;
+    }
+}
@@ -1,15 +1,21 @@
 // In backend/src/main/java/com/gramalertplus/service/AlertService.java
 package com.gramalertplus.service;
 
+import com.gramalertplus.dto.AlertAreaDto;
 import com.gramalertplus.dto.AlertDto;
 import com.gramalertplus.entity.Alert;
 import com.gramalertplus.repository.AlertRepository;
+import com.gramalertplus.search.SearchService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,12 +28,49 @@ public class AlertService {
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
 
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private ActiveAlertStore activeAlertStore;
+
+    @Autowired
+    private CollectionVersions versions;
+
+    @Autowired
+    private AlertFanout alertFanout;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveAlerts() {
+        activeAlertStore.replaceAll(alertRepository.findByEndTimeIsNullOrEndTimeAfter(LocalDateTime.now()).stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList()));
+    }
+
+    // Everything in the table, including expired alerts. Served from the database; the public scopes below aren't.
     public List<AlertDto> getAllAlerts() {
         return alertRepository.findAll().stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
+    // Alerts in effect now, from memory
+    public List<AlertDto> getActiveAlerts() {
+        return activeAlertStore.getActive();
+    }
+
+    // Alerts that start later, from memory
+    public List<AlertDto> getUpcomingAlerts() {
+        return activeAlertStore.getUpcoming();
+    }
+
+    // Active followed by upcoming: everything that hasn't ended
+    public List<AlertDto> getCurrentAlerts() {
+        List<AlertDto> current = new ArrayList<>(activeAlertStore.getActive());
+        current.addAll(activeAlertStore.getUpcoming());
+        return current;
+    }
+
     public AlertDto createAlert(AlertDto dto, Long adminUserId) {
         Alert newAlert = new Alert();
         newAlert.setTitle(dto.title());
@@ -36,12 +79,16 @@ public class AlertService {
         newAlert.setSeverity(dto.severity());
         newAlert.setStartTime(dto.startTime());
         newAlert.setEndTime(dto.endTime());
+        applyArea(newAlert, dto.area());
         newAlert.setCreatedBy(adminUserId);
 
         Alert savedAlert = alertRepository.save(newAlert);
+        searchService.indexAlert(savedAlert);
         AlertDto createdDto = convertToDto(savedAlert);
+        activeAlertStore.put(createdDto);
+        versions.alertsChanged();
 
-        messagingTemplate.convertAndSend("/topic/alerts", createdDto);
+        alertFanout.publish(createdDto, null);
         return createdDto;
     }
 
@@ -49,6 +96,7 @@ public class AlertService {
     public AlertDto updateAlert(Long id, AlertDto dto) {
         Alert alertToUpdate = alertRepository.findById(id)
             .orElseThrow(() -> new EntityNotFoundException("Alert not found with id: " + id));
+        AlertAreaDto previousArea = toAreaDto(alertToUpdate);
 
         alertToUpdate.setTitle(dto.title());
         alertToUpdate.setDescription(dto.description());
@@ -56,12 +104,16 @@ public class AlertService {
         alertToUpdate.setSeverity(dto.severity());
         alertToUpdate.setStartTime(dto.startTime());
         alertToUpdate.setEndTime(dto.endTime());
+        applyArea(alertToUpdate, dto.area());
 
         Alert updatedAlert = alertRepository.save(alertToUpdate);
+        searchService.indexAlert(updatedAlert);
         AlertDto updatedDto = convertToDto(updatedAlert);
+        activeAlertStore.put(updatedDto);
+        versions.alertsChanged();
         
-        // Also broadcast the update
-        messagingTemplate.convertAndSend("/topic/alerts", updatedDto);
+        // Also broadcast the update, to the alert's area only if it has one
+        alertFanout.publish(updatedDto, previousArea);
         
         return updatedDto;
     }
@@ -71,6 +123,9 @@ public class AlertService {
             throw new EntityNotFoundException("Alert not found with id: " + id);
         }
         alertRepository.deleteById(id);
+        searchService.removeAlert(id);
+        activeAlertStore.remove(id);
+        versions.alertsChanged();
 
         // Broadcast a simple delete message
         messagingTemplate.convertAndSend("/topic/alerts/deleted", id);
@@ -86,7 +141,44 @@ public class AlertService {
             alert.getSeverity(),
             alert.getStartTime(),
             alert.getEndTime(),
-            alert.getCreatedAt() != null ? alert.getCreatedAt().format(DateTimeFormatter.ISO_DATE_TIME) : null
+            alert.getCreatedAt() != null ? alert.getCreatedAt().format(DateTimeFormatter.ISO_DATE_TIME) : null,
+            toAreaDto(alert)
         );
     }
+
+    // Validates the area (IllegalArgumentException if malformed) and stores it in the entity's area columns
+    private void applyArea(Alert alert, AlertAreaDto area) {
+        if (AlertFanout.toGeoArea(area) == null) {
+            alert.setAreaType(null);
+            alert.setAreaCenterLat(null);
+            alert.setAreaCenterLng(null);
+            alert.setAreaRadiusKm(null);
+            alert.setAreaPolygon(null);
+            return;
+        }
+        boolean circle = "circle".equalsIgnoreCase(area.type());
+        alert.setAreaType(circle ? "circle" : "polygon");
+        alert.setAreaCenterLat(circle ? area.centerLat() : null);
+        alert.setAreaCenterLng(circle ? area.centerLng() : null);
+        alert.setAreaRadiusKm(circle ? area.radiusKm() : null);
+        alert.setAreaPolygon(circle ? null : area.polygon().stream()
+                .map(vertex -> vertex[0] + "," + vertex[1])
+                .collect(Collectors.joining(";")));
+    }
+
+    private static AlertAreaDto toAreaDto(Alert alert) {
+        if (alert.getAreaType() == null) {
+            return null;
+        }
+        List<double[]> polygon = null;
+        if (alert.getAreaPolygon() != null) {
+            polygon = new ArrayList<>();
+            for (String vertex : alert.getAreaPolygon().split(";")) {
+                String[] latLng = vertex.split(",");
+                polygon.add(new double[] { Double.parseDouble(latLng[0]), Double.parseDouble(latLng[1]) });
+            }
+        }
+        return new AlertAreaDto(alert.getAreaType(), alert.getAreaCenterLat(), alert.getAreaCenterLng(),
+                alert.getAreaRadiusKm(), polygon);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,310 @@
+// In backend/src/main/java/com/gramalertplus/service/ChunkedUploadService.java
+package com.gramalertplus.service;
+
+import com.gramalertplus.dto.UploadSessionDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resumable uploads for grievance attachments on unreliable connections:
+ * create a session with the total size, PUT byte ranges in any order (each written straight into a
+ * preallocated file at its offset), then complete it and pass its id to POST /grievances as "uploadId".
+ *
+ * Sessions live in memory and expire after uploads.chunked.session-ttl-hours without activity; after a
+ * server restart clients start over.
+ */
+@Service
+public class ChunkedUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedUploadService.class);
+
+    private static final int HASH_BUFFER_BYTES = 64 * 1024;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Value("${uploads.chunked.max-size:52428800}")
+    private long maxSize;
+
+    @Value("${uploads.chunked.session-ttl-hours:24}")
+    private long sessionTtlHours;
+
+    @Value("${uploads.chunked.max-sessions-per-user:5}")
+    private int maxSessionsPerUser;
+
+    @Value("${uploads.chunked.max-bytes-per-user:104857600}")
+    private long maxBytesPerUser;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    public UploadSessionDto create(String fileName, long size, String contentType, String username) throws IOException {
+        if (size <= 0 || size > maxSize) {
+            throw new IllegalArgumentException("Upload size must be between 1 and " + maxSize + " bytes");
+        }
+        Path dir = Paths.get(uploadDir).resolve("tmp");
+        Files.createDirectories(dir);
+        String id = UUID.randomUUID().toString();
+        Path file = dir.resolve(id + ".upload");
+        Session session = new Session(id, username, fileName, contentType, size, file);
+        // Every session preallocates its full size on disk, so each user gets a bounded share
+        synchronized (sessions) {
+            int open = 0;
+            long reserved = 0;
+            for (Session other : sessions.values()) {
+                if (other.username.equals(username)) {
+                    open++;
+                    reserved += other.size;
+                }
+            }
+            if (open >= maxSessionsPerUser) {
+                throw new IllegalStateException("Too many open uploads; complete or cancel one first");
+            }
+            if (reserved + size > maxBytesPerUser) {
+                throw new IllegalStateException("Open uploads would exceed " + maxBytesPerUser + " bytes");
+            }
+            sessions.put(id, session);
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(size);
+        } catch (IOException e) {
+            sessions.remove(id);
+            deleteQuietly(file);
+            throw e;
+        }
+        return session.toDto();
+    }
+
+    public UploadSessionDto get(String id, String username) {
+        return find(id, username).toDto();
+    }
+
+    // Writes [start, start + length) from the request body directly into the session file.
+    // A connection that drops mid-chunk keeps whatever arrived; GET the session to see where to resume.
+    // Runs under the session lock, so no byte can change while complete() hashes the file or after it has.
+    public UploadSessionDto writeChunk(String id, String username, long start, long length, InputStream body) throws IOException {
+        Session session = find(id, username);
+        if (start < 0 || length <= 0 || start + length > session.size) {
+            throw new IllegalArgumentException("Range is outside the upload");
+        }
+        synchronized (session) {
+            if (session.closed) {
+                throw new IllegalArgumentException("Unknown or expired upload " + id);
+            }
+            if (session.sha256 != null) {
+                throw new IllegalStateException("Upload is already complete");
+            }
+            long written = 0;
+            try (FileChannel channel = FileChannel.open(session.file, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(body)) {
+                while (written < length) {
+                    long n = channel.transferFrom(source, start + written, length - written);
+                    if (n <= 0) {
+                        break;
+                    }
+                    written += n;
+                }
+            } finally {
+                if (written > 0) {
+                    session.addRange(start, start + written);
+                }
+                session.touch();
+            }
+            return session.toDto();
+        }
+    }
+
+    // Checks every byte has arrived, hashes the file and, if the client sent its own SHA-256, verifies it.
+    public UploadSessionDto complete(String id, String username, String expectedSha256) throws IOException {
+        Session session = find(id, username);
+        synchronized (session) {
+            if (session.closed) {
+                throw new IllegalArgumentException("Unknown or expired upload " + id);
+            }
+            if (session.sha256 == null) {
+                if (session.received() < session.size) {
+                    throw new IllegalStateException("Upload is missing bytes; " + session.received() + " of " + session.size + " received");
+                }
+                String sha256 = hash(session.file);
+                if (expectedSha256 != null && !expectedSha256.isBlank() && !expectedSha256.equalsIgnoreCase(sha256)) {
+                    throw new IllegalStateException("Checksum mismatch; the upload is corrupt");
+                }
+                session.sha256 = sha256;
+            }
+        }
+        session.touch();
+        return session.toDto();
+    }
+
+    // Moves a completed upload into the file store and returns its URL. The session is consumed.
+    public String attach(String id, String username) {
+        Session session = find(id, username);
+        // Closing under the lock waits out any write in progress and turns away later ones
+        synchronized (session) {
+            if (session.sha256 == null) {
+                throw new IllegalArgumentException("Upload " + id + " is not complete");
+            }
+            if (session.closed || !sessions.remove(id, session)) {
+                throw new IllegalArgumentException("Upload " + id + " was already used");
+            }
+            session.closed = true;
+        }
+        try {
+            return fileStorageService.storeContent(session.file, session.sha256, session.size,
+                    FileStorageService.extensionOf(session.fileName), session.contentType);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not store file. Please try again!", e);
+        } finally {
+            deleteQuietly(session.file);
+        }
+    }
+
+    // Throws if the id isn't a usable upload of this user, without consuming it.
+    public void requireComplete(String id, String username) {
+        if (find(id, username).sha256 == null) {
+            throw new IllegalArgumentException("Upload " + id + " is not complete");
+        }
+    }
+
+    public void cancel(String id, String username) {
+        Session session = find(id, username);
+        synchronized (session) {
+            if (!session.closed && sessions.remove(id, session)) {
+                session.closed = true;
+                deleteQuietly(session.file);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${uploads.chunked.cleanup-interval-ms:3600000}")
+    public void expireSessions() {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(sessionTtlHours));
+        sessions.values().removeIf(session -> {
+            if (!session.lastActivity.isBefore(cutoff)) {
+                return false;
+            }
+            synchronized (session) {
+                session.closed = true;
+                deleteQuietly(session.file);
+            }
+            return true;
+        });
+    }
+
+    private Session find(String id, String username) {
+        Session session = sessions.get(id);
+        if (session == null) {
+            throw new IllegalArgumentException("Unknown or expired upload " + id);
+        }
+        if (!session.username.equals(username)) {
+            throw new AccessDeniedException("Upload belongs to another user");
+        }
+        return session;
+    }
+
+    private static String hash(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_BYTES);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete upload file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static final class Session {
+        final String id;
+        final String username;
+        final String fileName;
+        final String contentType;
+        final long size;
+        final Path file;
+        // start -> end (exclusive) of every byte range received, merged so ranges never overlap or touch
+        private final TreeMap<Long, Long> ranges = new TreeMap<>();
+        volatile String sha256;
+        // Set, under the session lock, once the session is consumed, cancelled or expired
+        boolean closed;
+        volatile Instant lastActivity = Instant.now();
+
+        Session(String id, String username, String fileName, String contentType, long size, Path file) {
+            this.id = id;
+            this.username = username;
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.size = size;
+            this.file = file;
+        }
+
+        void touch() {
+            lastActivity = Instant.now();
+        }
+
+        synchronized void addRange(long start, long end) {
+            Map.Entry<Long, Long> before = ranges.floorEntry(start);
+            if (before != null && before.getValue() >= start) {
+                start = before.getKey();
+                end = Math.max(end, before.getValue());
+            }
+            Map.Entry<Long, Long> next;
+            while ((next = ranges.ceilingEntry(start)) != null && next.getKey() <= end) {
+                end = Math.max(end, next.getValue());
+                ranges.remove(next.getKey());
+            }
+            ranges.put(start, end);
+        }
+
+        synchronized long received() {
+            Map.Entry<Long, Long> first = ranges.firstEntry();
+            return first != null && first.getKey() == 0 ? first.getValue() : 0;
+        }
+
+        synchronized UploadSessionDto toDto() {
+            List<long[]> list = new ArrayList<>(ranges.size());
+            ranges.forEach((start, end) -> list.add(new long[] {start, end}));
+            return new UploadSessionDto(id, fileName, size, received(), list, sha256 != null, sha256);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+// In backend/src/main/java/com/gramalertplus/service/CollectionVersions.java
+package com.gramalertplus.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Change counters for the collections that read endpoints cache or answer conditionally. Every write path
+// bumps the counter of what it touched: alerts globally, grievances globally and per reporting user
+// (for /grievances/my-requests). Counters restart at zero on boot, so ETags also carry a boot id.
+// Per-user counters are keyed by username, which is all the request's JWT principal carries.
+@Component
+public class CollectionVersions {
+
+    @Autowired
+    private UsernameCache usernameCache;
+
+    @Autowired
+    private GrievanceCoReporters coReporters;
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong alerts = new AtomicLong();
+    private final AtomicLong grievances = new AtomicLong();
+    private final Map<String, AtomicLong> grievancesByUser = new ConcurrentHashMap<>();
+
+    public long alerts() {
+        return alerts.get();
+    }
+
+    public long grievances() {
+        return grievances.get();
+    }
+
+    public long grievancesOf(String username) {
+        AtomicLong version = grievancesByUser.get(username);
+        return version != null ? version.get() : 0;
+    }
+
+    public void alertsChanged() {
+        alerts.incrementAndGet();
+    }
+
+    // For changes that can't be attributed to one reporter
+    public void grievancesChanged() {
+        grievances.incrementAndGet();
+    }
+
+    public void grievancesChanged(Long ownerId) {
+        grievances.incrementAndGet();
+        String owner = usernameCache.get(ownerId);
+        if (owner != null) {
+            userGrievancesChanged(owner);
+        }
+    }
+
+    // A change to one grievance: its reporter and everyone whose report was merged into it see it in /my-requests
+    public void grievanceChanged(Long grievanceId, Long ownerId) {
+        grievancesChanged(ownerId);
+        for (Long coReporterId : coReporters.of(grievanceId)) {
+            String username = usernameCache.get(coReporterId);
+            if (username != null) {
+                userGrievancesChanged(username);
+            }
+        }
+    }
+
+    // Also called when a username is renamed or deleted, so a later account with that name can't match old tags
+    public void userGrievancesChanged(String username) {
+        grievancesByUser.computeIfAbsent(username, name -> new AtomicLong()).incrementAndGet();
+    }
+
+    // Strong ETag from version parts, e.g. tag("alerts", "current", version). Parts such as usernames are
+    // percent-encoded, so quotes and non-ASCII can't break the header and a '-' inside a part can't shift the rest.
+    public String tag(Object... parts) {
+        StringBuilder tag = new StringBuilder("\"").append(bootId);
+        for (Object part : parts) {
+            tag.append('-');
+            appendEncoded(tag, String.valueOf(part));
+        }
+        return tag.append('"').toString();
+    }
+
+    private static void appendEncoded(StringBuilder tag, String part) {
+        for (byte b : part.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xff);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '.' || c == '_') {
+                tag.append(c);
+            } else {
+                tag.append('%').append(HEX[c >> 4]).append(HEX[c & 0xf]);
+            }
+        }
+    }
+}
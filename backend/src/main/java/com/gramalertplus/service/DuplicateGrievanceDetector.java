@@ -0,0 +1,209 @@
+// In backend/src/main/java/com/gramalertplus/service/DuplicateGrievanceDetector.java
+package com.gramalertplus.service;
+
+import com.gramalertplus.dto.MapMarkerDto;
+import com.gramalertplus.entity.Grievance;
+import com.gramalertplus.maps.MapsService;
+import com.gramalertplus.repository.GrievanceRepository;
+import com.gramalertplus.repository.GrievanceText;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Spots new reports that are very likely the same problem as an open grievance.
+ *
+ * Candidates are open grievances of the same category created within duplicates.window-hours and within
+ * duplicates.radius-meters of the new report, found through the MapsService spatial index. A report without
+ * coordinates is never merged: the same complaint from two different villages is two grievances. Each candidate keeps a MinHash signature of its title + description, so comparing the
+ * new report against the handful of candidates is a few array comparisons, not a database query.
+ */
+@Service
+public class DuplicateGrievanceDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateGrievanceDetector.class);
+
+    private static final int SIGNATURE_SIZE = 64;
+    private static final int SHINGLE_SIZE = 3;
+    private static final long[] SEEDS = new long[SIGNATURE_SIZE];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            seed = mix(seed + i);
+            SEEDS[i] = seed;
+        }
+    }
+
+    @Autowired
+    private GrievanceRepository grievanceRepository;
+
+    @Autowired
+    private MapsService mapsService;
+
+    @Value("${duplicates.enabled:true}")
+    private boolean enabled;
+
+    @Value("${duplicates.radius-meters:250}")
+    private double radiusMeters;
+
+    @Value("${duplicates.window-hours:72}")
+    private long windowHours;
+
+    @Value("${duplicates.similarity-threshold:0.5}")
+    private double similarityThreshold;
+
+    private final Map<Long, Candidate> candidates = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCandidates() {
+        if (!enabled) {
+            return;
+        }
+        List<GrievanceText> recent = grievanceRepository.findOpenTextsCreatedSince(LocalDateTime.now().minusHours(windowHours));
+        recent.forEach(g -> add(g.id(), g.category(), g.title(), g.description(), g.createdAt()));
+        logger.info("Duplicate detector loaded {} recent open grievances.", recent.size());
+    }
+
+    // Returns the id of the open grievance this report most likely duplicates, or null if none.
+    public Long findDuplicate(String category, String title, String description, Double latitude, Double longitude) {
+        if (!enabled || category == null) {
+            return null;
+        }
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        String categoryKey = category.toLowerCase();
+        List<Long> nearby = mapsService.getGrievancesInRadius(latitude, longitude, radiusMeters / 1000.0, categoryKey, false)
+                .stream().map(MapMarkerDto::id).collect(Collectors.toList());
+        if (nearby.isEmpty()) {
+            return null;
+        }
+
+        long cutoff = toMillis(LocalDateTime.now().minusHours(windowHours));
+        int[] signature = signature(title, description);
+        Long bestId = null;
+        double bestScore = similarityThreshold;
+        for (Long id : nearby) {
+            Candidate candidate = candidates.get(id);
+            if (candidate == null || !candidate.category().equals(categoryKey) || candidate.createdAt() < cutoff) {
+                continue;
+            }
+            double score = similarity(signature, candidate.signature());
+            if (score >= bestScore) {
+                bestScore = score;
+                bestId = id;
+            }
+        }
+        return bestId;
+    }
+
+    public void register(Grievance grievance) {
+        if (!enabled || grievance.getId() == null) {
+            return;
+        }
+        if ("Resolved".equals(grievance.getStatus())) {
+            remove(grievance.getId());
+            return;
+        }
+        add(grievance.getId(), grievance.getCategory(), grievance.getTitle(), grievance.getDescription(), grievance.getCreatedAt());
+    }
+
+    public void remove(Long grievanceId) {
+        candidates.remove(grievanceId);
+    }
+
+    // Drops candidates that have aged out of the time window.
+    @Scheduled(fixedDelay = 3600000)
+    public void pruneExpired() {
+        long cutoff = toMillis(LocalDateTime.now().minusHours(windowHours));
+        candidates.values().stream()
+                .filter(c -> c.createdAt() < cutoff)
+                .map(Candidate::id)
+                .toList()
+                .forEach(this::remove);
+    }
+
+    private void add(Long id, String category, String title, String description, LocalDateTime createdAt) {
+        if (category == null) {
+            return;
+        }
+        String categoryKey = category.toLowerCase();
+        candidates.put(id, new Candidate(id, categoryKey,
+                toMillis(createdAt != null ? createdAt : LocalDateTime.now()), signature(title, description)));
+    }
+
+    // MinHash over character 3-grams of the normalised text. Character shingles are forgiving of the
+    // spelling drift you get when people transliterate Malayalam into Latin script.
+    static int[] signature(String title, String description) {
+        String text = normalise((title != null ? title : "") + " " + (description != null ? description : ""));
+        Set<Integer> shingles = new HashSet<>();
+        for (int i = 0; i + SHINGLE_SIZE <= text.length(); i++) {
+            shingles.add(text.substring(i, i + SHINGLE_SIZE).hashCode());
+        }
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int shingle : shingles) {
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                int h = (int) mix(shingle ^ SEEDS[i]);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return equal / (double) SIGNATURE_SIZE;
+    }
+
+    private static String normalise(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean lastWasSpace = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+                lastWasSpace = false;
+            } else if (!lastWasSpace) {
+                sb.append(' ');
+                lastWasSpace = true;
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Candidate(Long id, String category, long createdAt, int[] signature) {}
+}
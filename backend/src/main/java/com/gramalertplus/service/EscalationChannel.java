@@ -0,0 +1,11 @@
+// In backend/src/main/java/com/gramalertplus/service/EscalationChannel.java
+package com.gramalertplus.service;
+
+import com.gramalertplus.dto.EscalationNoticeDto;
+
+// One way of telling an authority about an escalation. EscalationNotifier hands every notice to each
+// channel bean on its own thread; an email or SMS provider plugs in by adding another implementation.
+public interface EscalationChannel {
+
+    void deliver(EscalationNoticeDto notice);
+}
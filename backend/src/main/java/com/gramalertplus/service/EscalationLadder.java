@@ -0,0 +1,66 @@
+// In backend/src/main/java/com/gramalertplus/service/EscalationLadder.java
+package com.gramalertplus.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Configurable escalation ladder.
+ *
+ * escalation.authorities lists who each level escalates to (level 1 first), which also fixes the number of levels.
+ * escalation.ladder.default gives, for each level, how many hours after the deadline it fires; a category can
+ * override it with escalation.ladder.&lt;category&gt; (lower case), e.g. escalation.ladder.water=0,12,36.
+ */
+@Component
+public class EscalationLadder {
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${escalation.ladder.default:0,24,72}")
+    private String defaultLadder;
+
+    @Value("${escalation.authorities:Panchayat Secretary,Block Development Officer,District Collector}")
+    private List<String> authorities;
+
+    private final Map<String, long[]> offsetsByCategory = new ConcurrentHashMap<>();
+
+    public int maxLevel() {
+        return authorities.size();
+    }
+
+    public String authorityFor(int level) {
+        return authorities.get(Math.min(level, authorities.size()) - 1);
+    }
+
+    // When the given level (1-based) is due for a grievance, or null if the category's ladder stops earlier.
+    public LocalDateTime dueAt(String category, LocalDateTime deadline, int level) {
+        if (deadline == null || level < 1 || level > maxLevel()) {
+            return null;
+        }
+        long[] offsets = offsetsFor(category);
+        return level <= offsets.length ? deadline.plusHours(offsets[level - 1]) : null;
+    }
+
+    private long[] offsetsFor(String category) {
+        String key = category != null ? category.toLowerCase() : "default";
+        return offsetsByCategory.computeIfAbsent(key, k ->
+                parse(environment.getProperty("escalation.ladder." + k, defaultLadder)));
+    }
+
+    private static long[] parse(String ladder) {
+        return Arrays.stream(ladder.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .mapToLong(Long::parseLong)
+                .toArray();
+    }
+}
@@ -0,0 +1,90 @@
+// In backend/src/main/java/com/gramalertplus/service/EscalationNotifier.java
+package com.gramalertplus.service;
+
+import com.gramalertplus.dto.EscalationNoticeDto;
+import com.gramalertplus.repository.EscalatedGrievance;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers escalation notifications off the scheduler thread.
+ *
+ * dispatch() only enqueues onto a bounded queue and never blocks; if the queue is full (e.g. a mail
+ * relay is down during a mass escalation) the notice is dropped and counted rather than stalling the
+ * escalation job. The escalations table remains the record of what happened. Each notice is handed to
+ * every EscalationChannel bean; StompEscalationChannel is the only one shipped.
+ */
+@Component
+public class EscalationNotifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(EscalationNotifier.class);
+
+    @Autowired
+    private List<EscalationChannel> channels;
+
+    @Value("${escalation.notifier.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "escalation-notifier");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> {
+                    long total = dropped.incrementAndGet();
+                    logger.warn("Escalation notification queue is full; dropped a notice ({} dropped so far).", total);
+                });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    public void dispatch(List<EscalatedGrievance> escalated, String escalatedTo, LocalDateTime escalatedAt) {
+        String timestamp = escalatedAt.format(DateTimeFormatter.ISO_DATE_TIME);
+        for (EscalatedGrievance grievance : escalated) {
+            EscalationNoticeDto notice = new EscalationNoticeDto(grievance.id(), grievance.title(),
+                    grievance.category(), grievance.level(), escalatedTo, timestamp);
+            executor.execute(() -> send(notice));
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void send(EscalationNoticeDto notice) {
+        logger.info("Notifying {} about grievance {} (escalation level {}).",
+                notice.escalatedTo(), notice.grievanceId(), notice.escalationLevel());
+        // A failing channel doesn't keep the others from delivering
+        for (EscalationChannel channel : channels) {
+            try {
+                channel.deliver(notice);
+            } catch (RuntimeException e) {
+                logger.error("Failed to deliver escalation notice for grievance {} via {}",
+                        notice.grievanceId(), channel.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
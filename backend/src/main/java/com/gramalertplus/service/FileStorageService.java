@@ -1,45 +1,222 @@
 // In backend/src/main/java/com/gramalertplus/service/FileStorageService.java
 package com.gramalertplus.service;
 
+import com.gramalertplus.repository.StoredFileJdbcRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+// Content-addressed upload store. Each upload is hashed (SHA-256) while it is streamed to a temp file,
+// then moved to uploads/<h0h1>/<h2h3>/<hash>.<ext>. Identical photos (forwarded images are common) are
+// kept once and reference counted in stored_files; the two-level sharding keeps directories small.
 @Service
 public class FileStorageService {
 
+    private static final Logger logger = LoggerFactory.getLogger(FileStorageService.class);
+
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+    // ab/cd/<64 hex>[_thumb|_medium][.ext]
+    private static final Pattern CONTENT_ADDRESSED_PATH =
+            Pattern.compile("[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})(_thumb|_medium)?(\\.[a-z0-9]{1,8})?");
+
+    private record LegacyEtag(long size, long modified, String etag) {}
+
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    @Autowired
+    private StoredFileJdbcRepository storedFileRepository;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    // Serialises acquire/release of the same content so a release can't delete a file that a
+    // concurrent upload of identical bytes has just decided to reuse
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Map<Path, LegacyEtag> legacyEtags = new ConcurrentHashMap<>();
+
+    public FileStorageService() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
     public String storeFile(MultipartFile file) {
+        Path uploadPath = Paths.get(uploadDir);
+        Path tempFile = null;
         try {
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
+            Path tempDir = uploadPath.resolve("tmp");
+            Files.createDirectories(tempDir);
+            tempFile = tempDir.resolve(UUID.randomUUID() + ".part");
+
+            // Hash and copy in one pass over the upload
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size = 0;
+            try (InputStream in = file.getInputStream();
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel target = FileChannel.open(tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(COPY_BUFFER_BYTES);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        size += target.write(buffer);
+                    }
+                    buffer.clear();
+                }
             }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            return storeContent(tempFile, hash, size, extensionOf(file.getOriginalFilename()), file.getContentType());
 
-            // Generate a unique filename
-            String originalFileName = file.getOriginalFilename();
-            String fileExtension = "";
-            if (originalFileName != null && originalFileName.contains(".")) {
-                fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            throw new RuntimeException("Could not store file. Please try again!", ex);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    // Adds a reference to already-hashed content and moves it into the store if this is the first copy.
+    // Returns the URL to save on the grievance. The first upload of some bytes fixes their URL (and
+    // extension); later uploads of the same bytes under another extension share it and their temp file is
+    // discarded, so one hash never has two files on disk.
+    String storeContent(Path tempFile, String hash, long size, String extension, String contentType) throws IOException {
+        String relativePath = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + extension;
+        synchronized (lockFor(hash)) {
+            String url = storedFileRepository.acquire(hash, "/uploads/" + relativePath, size, contentType, LocalDateTime.now());
+            Path target = Paths.get(uploadDir).resolve(url.substring("/uploads/".length()));
+            if (!Files.exists(target)) {
+                try {
+                    Files.createDirectories(target.getParent());
+                    Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Same bytes are already there
+                } catch (IOException e) {
+                    storedFileRepository.release(url);
+                    throw e;
+                }
             }
-            String uniqueFileName = UUID.randomUUID().toString() + fileExtension;
+            imageVariantService.submit(url);
+            return url;
+        }
+    }
 
-            // Copy the file to the target location
-            Path targetLocation = uploadPath.resolve(uniqueFileName);
-            Files.copy(file.getInputStream(), targetLocation);
+    // Drops a grievance's reference to an upload and deletes the file once nothing refers to it.
+    // Uploads stored before content addressing aren't reference counted and are left alone.
+    public void release(String fileUrl) {
+        if (fileUrl == null || !fileUrl.startsWith("/uploads/")) {
+            return;
+        }
+        String relativePath = fileUrl.substring("/uploads/".length());
+        String fileName = relativePath.substring(relativePath.lastIndexOf('/') + 1);
+        String hash = fileName.contains(".") ? fileName.substring(0, fileName.indexOf('.')) : fileName;
+        synchronized (lockFor(hash)) {
+            if (storedFileRepository.release(fileUrl)) {
+                imageVariantService.deleteVariants(fileUrl);
+                try {
+                    Files.deleteIfExists(Paths.get(uploadDir).resolve(relativePath));
+                } catch (IOException e) {
+                    logger.warn("Could not delete unreferenced upload {}: {}", fileUrl, e.getMessage());
+                }
+            }
+        }
+    }
 
-            // Return the path to be saved in the database
-            return "/uploads/" + uniqueFileName;
+    // Maps a path under /uploads/ to the file to serve, or null if it doesn't exist or isn't servable
+    // (outside the upload directory, or an upload still in progress under tmp/).
+    public Path resolveUpload(String relativePath) {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path file = root.resolve(relativePath).normalize();
+        if (!file.startsWith(root) || file.startsWith(root.resolve("tmp")) || !Files.isRegularFile(file)) {
+            return null;
+        }
+        return file;
+    }
 
-        } catch (IOException ex) {
-            throw new RuntimeException("Could not store file. Please try again!", ex);
+    // True for names written by this store (and their image variants): the name is the content hash,
+    // so the bytes behind the URL can never change.
+    public static boolean isContentAddressed(String relativePath) {
+        return CONTENT_ADDRESSED_PATH.matcher(relativePath).matches();
+    }
+
+    // Strong ETag for an upload. Content-addressed names already contain the hash; older uploads are
+    // hashed once and remembered until their size or modification time changes.
+    public String etagOf(String relativePath, Path file) throws IOException {
+        Matcher matcher = CONTENT_ADDRESSED_PATH.matcher(relativePath);
+        if (matcher.matches()) {
+            return "\"" + matcher.group(1) + (matcher.group(2) != null ? matcher.group(2) : "") + "\"";
+        }
+        long size = Files.size(file);
+        long modified = Files.getLastModifiedTime(file).toMillis();
+        LegacyEtag cached = legacyEtags.get(file);
+        if (cached != null && cached.size() == size && cached.modified() == modified) {
+            return cached.etag();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buffer = ByteBuffer.allocateDirect(COPY_BUFFER_BYTES);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            String etag = "\"" + HexFormat.of().formatHex(digest.digest()) + "\"";
+            legacyEtags.put(file, new LegacyEtag(size, modified, etag));
+            return etag;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    // Lower-cased ASCII letters/digits only, so the original name can't smuggle path characters into the store
+    static String extensionOf(String originalFileName) {
+        if (originalFileName == null || !originalFileName.contains(".")) {
+            return "";
+        }
+        String extension = originalFileName.substring(originalFileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        if (extension.isEmpty() || extension.length() > 8 || !extension.chars().allMatch(c -> (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9'))) {
+            return "";
+        }
+        return "." + extension;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete temp upload {}: {}", path, e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,163 @@
+// In backend/src/main/java/com/gramalertplus/service/GrievanceBroadcaster.java
+package com.gramalertplus.service;
+
+import com.gramalertplus.dto.GrievanceDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes grievance changes in coalesced batches, routed by who may see them.
+ *
+ * Admins get every change on /topic/admin/grievances (WebSocketAuthInterceptor keeps other users off
+ * /topic/admin/**). Each villager gets only the changes to their own grievances, on their
+ * /user/queue/grievances, so reporter names and locations aren't broadcast and a client's traffic follows
+ * its user's own activity. Villagers whose reports were merged into a grievance get its changes too, redacted
+ * as in their /my-requests list.
+ *
+ * The first change after a quiet period opens a window of window-ms; changes arriving inside it are
+ * collected, keeping only the latest version per grievance id, and go out as one JSON array when the
+ * window closes. A burst of N changes to the same few grievances costs clients one frame per window
+ * instead of N, and no change waits longer than one window. Deletions are sent straight away and drop
+ * any pending update for the same id, so a client never re-adds a grievance it was told is gone.
+ */
+@Component
+public class GrievanceBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrievanceBroadcaster.class);
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private GrievanceCoReporters coReporters;
+
+    @Autowired
+    private UsernameCache usernameCache;
+
+    private final long windowMs;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "grievance-broadcast");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this; null while no window is open. Sends happen under the same lock; with the broker
+    // channel on its own executor they only hand the message off.
+    private Map<Long, GrievanceDto> pending;
+
+    public GrievanceBroadcaster(@Value("${grievances.broadcast.window-ms:100}") long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public void publish(GrievanceDto dto) {
+        publishAll(List.of(dto));
+    }
+
+    public void publishAll(List<GrievanceDto> dtos) {
+        if (dtos.isEmpty()) {
+            return;
+        }
+        if (windowMs <= 0) {
+            send(dtos);
+            return;
+        }
+        synchronized (this) {
+            boolean openWindow = pending == null;
+            if (openWindow) {
+                pending = new LinkedHashMap<>();
+            }
+            // Re-inserting moves the id to the end, so the batch is in order of each grievance's last change
+            dtos.forEach(dto -> {
+                pending.remove(dto.id());
+                pending.put(dto.id(), dto);
+            });
+            if (openWindow) {
+                scheduler.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    // Call before the grievance's co-reporters are forgotten, so they hear about it too
+    public void publishDeleted(Long id, Long ownerId) {
+        synchronized (this) {
+            if (pending != null) {
+                pending.remove(id);
+            }
+            messagingTemplate.convertAndSend("/topic/admin/grievances/deleted", id);
+            for (String username : reporterUsernames(id, ownerId)) {
+                messagingTemplate.convertAndSendToUser(username, "/queue/grievances/deleted", id);
+            }
+        }
+    }
+
+    // Sends under the lock so a batch can't overtake a deletion published after it was taken
+    private synchronized void flush() {
+        List<GrievanceDto> batch = new ArrayList<>(pending.values());
+        pending = null;
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            send(batch);
+        } catch (RuntimeException e) {
+            logger.error("Failed to broadcast {} grievance updates", batch.size(), e);
+        }
+    }
+
+    private void send(List<GrievanceDto> batch) {
+        messagingTemplate.convertAndSend("/topic/admin/grievances", batch);
+        Map<String, List<GrievanceDto>> byUser = new LinkedHashMap<>();
+        for (GrievanceDto dto : batch) {
+            if (dto.submittedBy() != null) {
+                byUser.computeIfAbsent(dto.submittedBy(), u -> new ArrayList<>()).add(dto);
+            }
+            Set<Long> coReporterIds = coReporters.of(dto.id());
+            if (!coReporterIds.isEmpty()) {
+                GrievanceDto redacted = GrievanceService.redactForCoReporter(dto);
+                for (Long userId : coReporterIds) {
+                    String username = usernameCache.get(userId);
+                    if (username != null) {
+                        byUser.computeIfAbsent(username, u -> new ArrayList<>()).add(redacted);
+                    }
+                }
+            }
+        }
+        // The principal name WebSocketAuthInterceptor sets on CONNECT is the username
+        byUser.forEach((username, own) -> messagingTemplate.convertAndSendToUser(username, "/queue/grievances", own));
+    }
+
+    // The original reporter and everyone whose report was merged in; accounts that are gone are skipped
+    private List<String> reporterUsernames(Long grievanceId, Long ownerId) {
+        List<String> usernames = new ArrayList<>();
+        String owner = ownerId != null ? usernameCache.get(ownerId) : null;
+        if (owner != null) {
+            usernames.add(owner);
+        }
+        for (Long userId : coReporters.of(grievanceId)) {
+            String username = usernameCache.get(userId);
+            if (username != null) {
+                usernames.add(username);
+            }
+        }
+        return usernames;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
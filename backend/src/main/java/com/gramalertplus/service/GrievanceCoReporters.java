@@ -0,0 +1,57 @@
+// In backend/src/main/java/com/gramalertplus/service/GrievanceCoReporters.java
+package com.gramalertplus.service;
+
+import com.gramalertplus.entity.GrievanceReport;
+import com.gramalertplus.repository.GrievanceReportRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Which users besides the original reporter filed a report merged into each grievance. Kept in memory so
+// every grievance write can bump the co-reporters' /my-requests versions without a query.
+@Component
+public class GrievanceCoReporters {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrievanceCoReporters.class);
+
+    @Autowired
+    private GrievanceReportRepository reportRepository;
+
+    private final Map<Long, Set<Long>> byGrievance = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reportRepository.findAll().forEach(report -> index(report.getGrievanceId(), report.getUserId()));
+        logger.info("Loaded co-reporters for {} grievances.", byGrievance.size());
+    }
+
+    public void record(Long grievanceId, Long userId, LocalDateTime reportedAt) {
+        GrievanceReport report = new GrievanceReport();
+        report.setGrievanceId(grievanceId);
+        report.setUserId(userId);
+        report.setReportedAt(reportedAt);
+        reportRepository.save(report);
+        index(grievanceId, userId);
+    }
+
+    public Set<Long> of(Long grievanceId) {
+        return byGrievance.getOrDefault(grievanceId, Set.of());
+    }
+
+    // The rows themselves go with the grievance in GrievanceJdbcRepository.deleteWithTombstone
+    public void remove(Long grievanceId) {
+        byGrievance.remove(grievanceId);
+    }
+
+    private void index(Long grievanceId, Long userId) {
+        byGrievance.computeIfAbsent(grievanceId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+    }
+}
@@ -1,49 +1,181 @@
 // In backend/src/main/java/com/gramalertplus/service/GrievanceEscalationService.java
 package com.gramalertplus.service;
 
-import com.gramalertplus.entity.Grievance;
+import com.gramalertplus.repository.EscalatedGrievance;
+import com.gramalertplus.repository.EscalationJdbcRepository;
+import com.gramalertplus.repository.GrievanceDeadline;
 import com.gramalertplus.repository.GrievanceRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Moves grievances up the escalation ladder (see EscalationLadder) as their deadlines pass.
+ *
+ * Each unresolved grievance has at most one pending step in an in-memory DelayQueue: the next level it
+ * can reach and when. The queue is rebuilt from an indexed query at startup (and periodically as a
+ * safety net) and kept current by GrievanceService via track/untrack.
+ *
+ * A tick takes at most escalation.max-per-tick due steps, so after an outage a large backlog is worked
+ * off over several ticks instead of in one unbounded run. Writes are set-based per level and chunk, and
+ * notifications are handed to EscalationNotifier, which never blocks this thread.
+ */
 @Service
 public class GrievanceEscalationService {
 
     private static final Logger logger = LoggerFactory.getLogger(GrievanceEscalationService.class);
 
+    private static final long RETRY_DELAY_MS = 30_000;
+
     @Autowired
     private GrievanceRepository grievanceRepository;
 
-    // This method will run every hour (3600000 milliseconds)
-    @Scheduled(fixedRate = 3600000)
-    public void checkForOverdueGrievances() {
-        logger.info("Running scheduled task to check for overdue grievances...");
-        
-        List<Grievance> activeGrievances = grievanceRepository.findAll()
-            .stream()
-            .filter(g -> !"Resolved".equals(g.getStatus()))
-            .toList();
-
-        for (Grievance grievance : activeGrievances) {
-            if (grievance.getDeadline() != null && LocalDateTime.now().isAfter(grievance.getDeadline())) {
-                if (!grievance.isOverdue()) {
-                    logger.warn("Grievance ID {} is now overdue. Escalating.", grievance.getId());
-                    grievance.setOverdue(true);
-                    grievance.setPriority("High"); // Automatically set priority to High
-                    grievance.setEscalationLevel(1); // Escalate to level 1
-                    
-                    // TODO: Add logic here to send an email notification to the next authority
-                    
-                    grievanceRepository.save(grievance);
-                }
+    @Autowired
+    private EscalationJdbcRepository escalationJdbcRepository;
+
+    @Autowired
+    private EscalationLadder ladder;
+
+    @Autowired
+    private EscalationNotifier notifier;
+
+    @Autowired
+    private GrievanceStatsService statsService;
+
+    @Autowired
+    private CollectionVersions versions;
+
+    @Value("${escalation.batch-size:500}")
+    private int batchSize;
+
+    @Value("${escalation.max-per-tick:5000}")
+    private int maxPerTick;
+
+    private final DelayQueue<PendingEscalation> queue = new DelayQueue<>();
+
+    // The step each grievance is currently scheduled for. Queue entries that no longer match
+    // (grievance resolved, or re-tracked) are stale and skipped when they come due.
+    private final Map<Long, PendingEscalation> scheduled = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPendingDeadlines() {
+        List<GrievanceDeadline> pending = grievanceRepository.findPendingDeadlines(ladder.maxLevel());
+        pending.forEach(p -> track(p.id(), p.category(), p.deadline(), p.escalationLevel()));
+        logger.info("Escalation scheduler tracking {} pending grievances.", scheduled.size());
+    }
+
+    // Catches grievances written by anything other than this instance (imports, other nodes, manual SQL).
+    @Scheduled(initialDelayString = "${escalation.resync-interval-ms:21600000}", fixedDelayString = "${escalation.resync-interval-ms:21600000}")
+    public void resyncPendingDeadlines() {
+        loadPendingDeadlines();
+    }
+
+    // Schedules the next ladder step after currentLevel, or stops tracking if the ladder is exhausted.
+    public void track(Long grievanceId, String category, LocalDateTime deadline, Integer currentLevel) {
+        if (grievanceId == null) {
+            return;
+        }
+        int nextLevel = (currentLevel != null ? currentLevel : 0) + 1;
+        LocalDateTime dueAt = ladder.dueAt(category, deadline, nextLevel);
+        if (dueAt == null) {
+            untrack(grievanceId);
+            return;
+        }
+        schedule(new PendingEscalation(grievanceId, nextLevel, dueAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+    }
+
+    public void untrack(Long grievanceId) {
+        // The queue entry is left in place and discarded lazily when it comes due.
+        scheduled.remove(grievanceId);
+    }
+
+    @Scheduled(fixedDelayString = "${escalation.poll-interval-ms:5000}")
+    public void escalateDueGrievances() {
+        List<PendingEscalation> due = new ArrayList<>();
+        queue.drainTo(due, maxPerTick);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<Long>> idsByLevel = new TreeMap<>();
+        for (PendingEscalation entry : due) {
+            if (scheduled.remove(entry.grievanceId(), entry)) {
+                idsByLevel.computeIfAbsent(entry.level(), level -> new ArrayList<>()).add(entry.grievanceId());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        idsByLevel.forEach((level, ids) -> {
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                escalateBatch(level, ids.subList(from, Math.min(from + batchSize, ids.size())), now);
             }
+        });
+
+        PendingEscalation head = queue.peek();
+        if (head != null && head.getDelay(TimeUnit.MILLISECONDS) <= 0) {
+            logger.info("Escalation backlog remains after this tick; continuing on the next one.");
+        }
+    }
+
+    private void escalateBatch(int level, List<Long> ids, LocalDateTime now) {
+        String authority = ladder.authorityFor(level);
+        List<EscalatedGrievance> escalated;
+        try {
+            escalated = escalationJdbcRepository.escalate(ids, level, authority, now);
+        } catch (DataAccessException e) {
+            logger.error("Failed to escalate {} grievance(s) to level {}; retrying shortly.", ids.size(), level, e);
+            long retryAt = System.currentTimeMillis() + RETRY_DELAY_MS;
+            ids.forEach(id -> schedule(new PendingEscalation(id, level, retryAt)));
+            return;
+        }
+
+        if (!escalated.isEmpty()) {
+            logger.warn("Escalated {} grievance(s) to level {} ({}).", escalated.size(), level, authority);
+            for (EscalatedGrievance grievance : escalated) {
+                track(grievance.id(), grievance.category(), grievance.deadline(), level);
+                statsService.recordChanged(
+                        new GrievanceStatsService.StatsKey(grievance.category(), grievance.status(), grievance.previousPriority(), grievance.wasOverdue()),
+                        new GrievanceStatsService.StatsKey(grievance.category(), grievance.status(), "High", true));
+            }
+            escalated.forEach(grievance -> versions.grievanceChanged(grievance.id(), grievance.userId()));
+            notifier.dispatch(escalated, authority, now);
+        }
+    }
+
+    private void schedule(PendingEscalation entry) {
+        PendingEscalation previous = scheduled.put(entry.grievanceId(), entry);
+        if (!entry.equals(previous)) {
+            queue.put(entry);
+        }
+    }
+
+    private record PendingEscalation(Long grievanceId, int level, long dueAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAt, ((PendingEscalation) other).dueAt);
         }
-        logger.info("Finished checking for overdue grievances.");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+// In backend/src/main/java/com/gramalertplus/service/GrievanceExportService.java
+package com.gramalertplus.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gramalertplus.dto.GrievanceDto;
+import com.gramalertplus.dto.GrievanceFilter;
+import com.gramalertplus.repository.GrievanceListItem;
+import com.gramalertplus.repository.GrievanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Writes grievances for reporting straight from a database cursor to the response, one row at a time,
+// so memory use is flat regardless of how many rows match.
+@Service
+public class GrievanceExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrievanceExportService.class);
+
+    public enum Format { NDJSON, CSV }
+
+    private static final String CSV_HEADER = "id,title,description,status,priority,category,createdAt,submittedBy," +
+            "latitude,longitude,fileUrl,isOverdue,reportCount,escalationLevel";
+    // Push what we have to the client every so often instead of waiting for the buffer to fill
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    @Autowired
+    private GrievanceRepository grievanceRepository;
+
+    @Autowired
+    private GrievanceService grievanceService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public GrievanceExportService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void export(GrievanceFilter filter, Format format, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        // Headers (and the CSV header row) go out before the query runs
+        writer.flush();
+
+        long rows;
+        try {
+            rows = readOnlyTransaction.execute(status -> {
+                try (Stream<GrievanceListItem> items = grievanceRepository.streamAll(filter)) {
+                    long count = 0;
+                    Iterator<GrievanceListItem> it = items.iterator();
+                    while (it.hasNext()) {
+                        GrievanceDto dto = grievanceService.convertToDto(it.next());
+                        if (format == Format.CSV) {
+                            writeCsvRow(writer, dto);
+                        } else {
+                            writeJsonLine(writer, dto);
+                        }
+                        if (++count % FLUSH_EVERY_ROWS == 0) {
+                            writer.flush();
+                        }
+                    }
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away mid-download
+            throw e.getCause();
+        }
+        writer.flush();
+        logger.info("Exported {} grievances as {} in {} ms.", rows, format, System.currentTimeMillis() - start);
+    }
+
+    private void writeJsonLine(Writer writer, GrievanceDto dto) throws IOException {
+        writer.write(objectMapper.writeValueAsString(dto));
+        writer.write('\n');
+    }
+
+    private static void writeCsvRow(Writer writer, GrievanceDto dto) throws IOException {
+        Object[] values = {
+            dto.id(), dto.title(), dto.description(), dto.status(), dto.priority(), dto.category(),
+            dto.createdAt(), dto.submittedBy(), dto.latitude(), dto.longitude(), dto.fileUrl(),
+            dto.isOverdue(), dto.reportCount(), dto.escalationLevel()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(writer, values[i]);
+        }
+        writer.write('\n');
+    }
+
+    // Text that a spreadsheet would read as a formula gets a leading ' so it opens as plain text. Numbers
+    // are written as they are, so a negative coordinate stays a number.
+    static void writeCsvField(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean formula = value instanceof CharSequence && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0;
+        if (!formula && text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,387 @@
+// In backend/src/main/java/com/gramalertplus/service/GrievanceImportService.java
+package com.gramalertplus.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gramalertplus.dto.ImportResultDto;
+import com.gramalertplus.entity.Grievance;
+import com.gramalertplus.entity.User;
+import com.gramalertplus.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Bulk-loads historical grievances (e.g. digitised paper registers) from CSV or NDJSON.
+// The body is read as a stream and committed every import.chunk-size rows, each chunk inserted
+// with JDBC batching, so memory use does not grow with the size of the file.
+@Service
+public class GrievanceImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrievanceImportService.class);
+
+    public enum Format { CSV, NDJSON }
+
+    private static final Set<String> STATUSES = Set.of("Received", "In Progress", "Resolved");
+    private static final Set<String> PRIORITIES = Set.of("High", "Medium", "Low");
+    private static final int MAX_REPORTED_ERRORS = 100;
+    // Longest CSV record accepted, so an unterminated quote can't pull the rest of the upload into one row
+    private static final int MAX_RECORD_CHARS = 64 * 1024;
+    private static final int MAX_RECORD_LINES = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GrievanceService grievanceService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${import.batch-size:100}")
+    private int batchSize;
+
+    @Value("${import.chunk-size:1000}")
+    private int chunkSize;
+
+    // Rows without a username are attributed to the importing admin.
+    public ImportResultDto importGrievances(InputStream body, Format format, String importedBy) throws IOException {
+        long start = System.nanoTime();
+        User importer = userRepository.findByUsername(importedBy).orElseThrow(() -> new RuntimeException("User not found"));
+        Map<String, Optional<Long>> userIds = new HashMap<>();
+        userIds.put(importer.getUsername(), Optional.of(importer.getId()));
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        RowReader rows = format == Format.CSV ? new CsvRowReader(reader) : new NdjsonRowReader(reader, objectMapper);
+
+        List<Grievance> chunk = new ArrayList<>(chunkSize);
+        List<String> errors = new ArrayList<>();
+        long imported = 0, rejected = 0;
+        long chunkFirstLine = 0;
+        while (true) {
+            Map<String, String> row;
+            try {
+                row = rows.next();
+                if (row == null) {
+                    break;
+                }
+                if (chunk.isEmpty()) {
+                    chunkFirstLine = rows.lineNumber();
+                }
+                chunk.add(toGrievance(row, importer.getId(), userIds));
+            } catch (IllegalArgumentException e) {
+                rejected++;
+                addError(errors, "line " + rows.lineNumber() + ": " + e.getMessage());
+                continue;
+            }
+            if (chunk.size() >= chunkSize) {
+                int inserted = insertChunk(chunk, chunkFirstLine, rows.lineNumber(), errors);
+                imported += inserted;
+                rejected += chunk.size() - inserted;
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            int inserted = insertChunk(chunk, chunkFirstLine, rows.lineNumber(), errors);
+            imported += inserted;
+            rejected += chunk.size() - inserted;
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        double rowsPerSecond = elapsedMs > 0 ? imported * 1000.0 / elapsedMs : imported;
+        logger.info("Imported {} grievances ({} rejected) in {} ms ({} rows/s).", imported, rejected, elapsedMs, Math.round(rowsPerSecond));
+        return new ImportResultDto(imported, rejected, errors, elapsedMs, rowsPerSecond);
+    }
+
+    private static void addError(List<String> errors, String error) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(error);
+        }
+    }
+
+    // One transaction per chunk; the persistence context is cleared so managed entities don't pile up.
+    // Returns how many rows were saved: a chunk that fails is rolled back and reported, and the import goes on,
+    // so earlier chunks stay committed and the caller still gets a result.
+    private int insertChunk(List<Grievance> chunk, long firstLine, long lastLine, List<String> errors) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                for (Grievance grievance : chunk) {
+                    entityManager.persist(grievance);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            logger.warn("Import chunk at lines {}-{} failed: {}", firstLine, lastLine, e.getMessage());
+            addError(errors, "lines " + firstLine + "-" + lastLine + ": could not be saved ("
+                    + NestedExceptionUtils.getMostSpecificCause(e).getMessage() + ")");
+            return 0;
+        }
+        // Imported rows are indexed but not broadcast; a live feed of thousands of historical rows helps nobody
+        chunk.forEach(grievanceService::afterCreate);
+        return chunk.size();
+    }
+
+    private Grievance toGrievance(Map<String, String> row, Long importerId, Map<String, Optional<Long>> userIds) {
+        String title = required(row, "title");
+        String description = required(row, "description");
+        String category = required(row, "category");
+        String status = optional(row, "status", "Received");
+        String priority = optional(row, "priority", "Medium");
+        if (!STATUSES.contains(status)) {
+            throw new IllegalArgumentException("unknown status '" + status + "'");
+        }
+        if (!PRIORITIES.contains(priority)) {
+            throw new IllegalArgumentException("unknown priority '" + priority + "'");
+        }
+
+        Long userId = importerId;
+        String username = row.get("username");
+        if (username != null && !username.isBlank()) {
+            userId = userIds.computeIfAbsent(username.trim(), name -> userRepository.findByUsername(name).map(User::getId))
+                    .orElseThrow(() -> new IllegalArgumentException("unknown user '" + username + "'"));
+        }
+
+        LocalDateTime createdAt = dateTime(row, "created_at");
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        LocalDateTime resolvedAt = dateTime(row, "resolved_at");
+        if ("Resolved".equals(status) && resolvedAt == null) {
+            resolvedAt = createdAt;
+        }
+
+        Grievance grievance = new Grievance();
+        grievance.setTitle(title);
+        grievance.setDescription(description);
+        grievance.setCategory(category);
+        grievance.setStatus(status);
+        grievance.setPriority(priority);
+        grievance.setUserId(userId);
+        grievance.setLatitude(number(row, "latitude"));
+        grievance.setLongitude(number(row, "longitude"));
+        grievance.setCreatedAt(createdAt);
+        grievance.setDeadline(GrievanceService.calculateDeadline(category, createdAt));
+        if ("Resolved".equals(status)) {
+            grievance.setResolvedAt(resolvedAt);
+        }
+        return grievance;
+    }
+
+    private static String required(Map<String, String> row, String column) {
+        String value = row.get(column);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("missing " + column);
+        }
+        return value.trim();
+    }
+
+    private static String optional(Map<String, String> row, String column, String defaultValue) {
+        String value = row.get(column);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    private static Double number(Map<String, String> row, String column) {
+        String value = row.get(column);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid " + column + " '" + value + "'");
+        }
+    }
+
+    private static LocalDateTime dateTime(Map<String, String> row, String column) {
+        String value = row.get(column);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid " + column + " '" + value + "', expected ISO date-time");
+        }
+    }
+
+    private interface RowReader {
+        // Next row as column -> value, or null at end of input
+        Map<String, String> next() throws IOException;
+
+        long lineNumber();
+    }
+
+    // One JSON object per line; blank lines are skipped.
+    private static final class NdjsonRowReader implements RowReader {
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private long lineNumber;
+
+        NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                Map<String, String> row = new HashMap<>();
+                try {
+                    JsonNode node = objectMapper.readTree(line);
+                    node.fields().forEachRemaining(field -> {
+                        if (!field.getValue().isNull()) {
+                            row.put(field.getKey(), field.getValue().asText());
+                        }
+                    });
+                } catch (IOException e) {
+                    // Keep going; the missing fields are reported as a rejected row
+                    row.clear();
+                }
+                return row;
+            }
+            return null;
+        }
+
+        @Override
+        public long lineNumber() {
+            return lineNumber;
+        }
+    }
+
+    // RFC 4180 CSV with a header row. Quoted fields may contain commas, doubled quotes and newlines.
+    // A record longer than MAX_RECORD_CHARS or MAX_RECORD_LINES, or one whose quote never closes, is rejected
+    // and reading resumes on the following line.
+    private static final class CsvRowReader implements RowReader {
+        private final BufferedReader reader;
+        private String[] header;
+        private boolean badHeader;
+        private long lineNumber;
+        private long rowStartLine;
+
+        CsvRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            if (badHeader) {
+                return null;
+            }
+            if (header == null) {
+                List<String> columns;
+                try {
+                    columns = readRecord();
+                } catch (IllegalArgumentException e) {
+                    // Without the column names no row can be read
+                    badHeader = true;
+                    throw new IllegalArgumentException("header " + e.getMessage());
+                }
+                if (columns == null) {
+                    return null;
+                }
+                header = columns.stream().map(c -> c.trim().toLowerCase()).toArray(String[]::new);
+            }
+            List<String> values;
+            do {
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isBlank());
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < header.length && i < values.size(); i++) {
+                row.put(header[i], values.get(i));
+            }
+            return row;
+        }
+
+        @Override
+        public long lineNumber() {
+            return rowStartLine;
+        }
+
+        private List<String> readRecord() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            rowStartLine = ++lineNumber;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            long chars = 0;
+            while (true) {
+                chars += line.length();
+                if (chars > MAX_RECORD_CHARS || lineNumber - rowStartLine >= MAX_RECORD_LINES) {
+                    throw new IllegalArgumentException("record is longer than " + MAX_RECORD_CHARS + " characters or "
+                            + MAX_RECORD_LINES + " lines; is a quote left open?");
+                }
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (quoted) {
+                        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else if (c == '"') {
+                            quoted = false;
+                        } else {
+                            field.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                    } else {
+                        field.append(c);
+                    }
+                }
+                if (!quoted) {
+                    break;
+                }
+                // Newline inside a quoted field: the record continues on the next line
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IllegalArgumentException("quoted field is not closed before the end of the file");
+                }
+                lineNumber++;
+                field.append('\n');
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -1,48 +1,126 @@
 package com.gramalertplus.service;
 
 import com.gramalertplus.dto.GrievanceDto;
+import com.gramalertplus.dto.GrievanceFilter;
+import com.gramalertplus.dto.GrievancePageDto;
+import com.gramalertplus.dto.StatusUpdateDto;
 import com.gramalertplus.entity.Grievance;
 import com.gramalertplus.entity.User;
+import com.gramalertplus.maps.MapsService;
+import com.gramalertplus.repository.GrievanceJdbcRepository;
+import com.gramalertplus.repository.GrievanceListItem;
 import com.gramalertplus.repository.GrievanceRepository;
+import com.gramalertplus.repository.StatusChange;
 import com.gramalertplus.repository.UserRepository;
+import com.gramalertplus.search.SearchService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class GrievanceService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     @Autowired
     private GrievanceRepository grievanceRepository;
+
+    @Autowired
+    private GrievanceJdbcRepository grievanceJdbcRepository;
     
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private UsernameCache usernameCache;
+
+    @Autowired
+    private GrievanceBroadcaster grievanceBroadcaster;
 
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @Autowired
+    private CollectionVersions versions;
+
+    @Autowired
+    private GrievanceCoReporters coReporters;
+
+    @Autowired
+    private GrievanceEscalationService escalationService;
+
+    @Autowired
+    private MapsService mapsService;
+
+    @Autowired
+    private DuplicateGrievanceDetector duplicateDetector;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private GrievanceStatsService statsService;
+
+    @Autowired
+    private SlaAnalyticsService slaAnalyticsService;
+
     public List<GrievanceDto> getAllGrievances() {
         List<Grievance> grievances = grievanceRepository.findAll();
-        List<Long> userIds = grievances.stream().map(Grievance::getUserId).distinct().collect(Collectors.toList());
-        Map<Long, User> userMap = userRepository.findAllById(userIds).stream().collect(Collectors.toMap(User::getId, Function.identity()));
-        return grievances.stream().map(grievance -> convertToDto(grievance, userMap)).collect(Collectors.toList());
+        Map<Long, String> usernames = usernameCache.getAll(grievances.stream().map(Grievance::getUserId).collect(Collectors.toSet()));
+        return grievances.stream().map(grievance -> convertToDto(grievance, usernames.get(grievance.getUserId()))).collect(Collectors.toList());
+    }
+
+    public GrievancePageDto getGrievancePage(GrievanceFilter filter, String cursor, Integer pageSize) {
+        int limit = pageSize == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        KeysetCursor after = cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor) : null;
+
+        // Ask for one extra row so we know whether there is a next page without running a count query.
+        List<GrievanceListItem> rows = grievanceRepository.findPage(filter,
+                after != null ? after.at() : null, after != null ? after.id() : null, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<GrievanceListItem> page = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            GrievanceListItem last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+        return new GrievancePageDto(page.stream().map(this::convertToDto).collect(Collectors.toList()), nextCursor);
     }
 
-    public GrievanceDto createGrievance(GrievanceDto dto, MultipartFile file, String username) {
+    // The attachment is either a multipart file or the id of a completed resumable upload (see ChunkedUploadService).
+    public GrievanceDto createGrievance(GrievanceDto dto, MultipartFile file, String uploadId, String username) {
         User user = userRepository.findByUsername(username).orElseThrow(() -> new RuntimeException("User not found"));
+        if (uploadId != null && !uploadId.isBlank()) {
+            chunkedUploadService.requireComplete(uploadId, username);
+        }
+
+        Long duplicateOf = duplicateDetector.findDuplicate(dto.category(), dto.title(), dto.description(), dto.latitude(), dto.longitude());
+        if (duplicateOf != null) {
+            GrievanceDto mergedDto = mergeDuplicateReport(duplicateOf, file, uploadId, user);
+            if (mergedDto != null) {
+                return mergedDto;
+            }
+        }
+
         Grievance newGrievance = new Grievance();
         newGrievance.setTitle(dto.title());
         newGrievance.setDescription(dto.description());
@@ -52,31 +130,151 @@ public class GrievanceService {
         newGrievance.setStatus("Received");
         newGrievance.setPriority("Medium");
         newGrievance.setUserId(user.getId());
-        newGrievance.setDeadline(calculateDeadline(dto.category()));
-        if (file != null && !file.isEmpty()) {
-            String fileUrl = fileStorageService.storeFile(file);
-            newGrievance.setFileUrl(fileUrl);
-        }
+        newGrievance.setDeadline(calculateDeadline(dto.category(), LocalDateTime.now()));
+        newGrievance.setFileUrl(storeAttachment(file, uploadId, username));
         Grievance savedGrievance = grievanceRepository.save(newGrievance);
-        GrievanceDto createdDto = convertToDto(savedGrievance, Map.of(user.getId(), user));
-        messagingTemplate.convertAndSend("/topic/grievances", createdDto);
+        afterCreate(savedGrievance);
+        GrievanceDto createdDto = convertToDto(savedGrievance, user.getUsername());
+        grievanceBroadcaster.publish(createdDto);
         return createdDto;
     }
 
+    // Returns the stored attachment's URL, or null if the report came without one.
+    private String storeAttachment(MultipartFile file, String uploadId, String username) {
+        if (uploadId != null && !uploadId.isBlank()) {
+            return chunkedUploadService.attach(uploadId, username);
+        }
+        if (file != null && !file.isEmpty()) {
+            return fileStorageService.storeFile(file);
+        }
+        return null;
+    }
+
+    // Registers a newly inserted grievance with the in-memory indexes. Also used by the bulk importer.
+    void afterCreate(Grievance grievance) {
+        if (!"Resolved".equals(grievance.getStatus())) {
+            escalationService.track(grievance.getId(), grievance.getCategory(), grievance.getDeadline(), grievance.getEscalationLevel());
+        }
+        mapsService.indexGrievance(grievance);
+        duplicateDetector.register(grievance);
+        searchService.indexGrievance(grievance);
+        statsService.recordCreated(grievance);
+        if ("Resolved".equals(grievance.getStatus())) {
+            slaAnalyticsService.recordResolved(grievance);
+        }
+        versions.grievancesChanged(grievance.getUserId());
+    }
+
+    // Counts a new report against an existing open grievance instead of inserting a row, and records the
+    // reporter so it shows up in their /my-requests. Another villager's grievance comes back without the
+    // original reporter's name, location or photo.
+    // Returns null if that grievance was resolved in the meantime, so the caller creates a new one.
+    private GrievanceDto mergeDuplicateReport(Long grievanceId, MultipartFile file, String uploadId, User reporter) {
+        LocalDateTime now = LocalDateTime.now();
+        if (grievanceRepository.incrementReportCount(grievanceId, now) == 0) {
+            return null;
+        }
+        Grievance existing = grievanceRepository.findById(grievanceId).orElse(null);
+        if (existing == null) {
+            return null;
+        }
+        // Keep the photo if the original report didn't have one
+        if (existing.getFileUrl() == null) {
+            String fileUrl = storeAttachment(file, uploadId, reporter.getUsername());
+            if (fileUrl != null) {
+                existing.setFileUrl(fileUrl);
+                existing = grievanceRepository.save(existing);
+            }
+        } else if (uploadId != null && !uploadId.isBlank()) {
+            // The upload isn't needed; drop it rather than leave its temp file until the session expires
+            chunkedUploadService.cancel(uploadId, reporter.getUsername());
+        }
+        boolean ownReport = existing.getUserId().equals(reporter.getId());
+        if (!ownReport) {
+            coReporters.record(grievanceId, reporter.getId(), now);
+        }
+        versions.grievanceChanged(grievanceId, existing.getUserId());
+        GrievanceDto mergedDto = convertToDto(existing, usernameCache.get(existing.getUserId()));
+        grievanceBroadcaster.publish(mergedDto);
+        return ownReport ? mergedDto : redactForCoReporter(mergedDto);
+    }
+
     public GrievanceDto updateStatus(Long id, String newStatus) {
         return grievanceRepository.findById(id).map(grievance -> {
+            GrievanceStatsService.StatsKey before = GrievanceStatsService.StatsKey.of(grievance);
             grievance.setStatus(newStatus);
             if ("Resolved".equals(newStatus)) {
                 grievance.setResolvedAt(LocalDateTime.now());
             }
             Grievance updatedGrievance = grievanceRepository.save(grievance);
-            User user = userRepository.findById(grievance.getUserId()).orElse(null);
-            GrievanceDto dto = convertToDto(updatedGrievance, user != null ? Map.of(user.getId(), user) : Map.of());
-            messagingTemplate.convertAndSend("/topic/grievances", dto);
+            afterStatusChange(before, updatedGrievance);
+            GrievanceDto dto = convertToDto(updatedGrievance, usernameCache.get(updatedGrievance.getUserId()));
+            grievanceBroadcaster.publish(dto);
             return dto;
         }).orElse(null);
     }
+
+    // Applies many status changes with one UPDATE per distinct status, one user lookup and one broadcast batch.
+    // Ids that don't exist are skipped.
+    public List<GrievanceDto> updateStatuses(List<StatusUpdateDto> updates) {
+        // Last update wins if the same id appears twice
+        Map<Long, String> statusById = new LinkedHashMap<>();
+        updates.forEach(u -> statusById.put(u.id(), u.status()));
+        Map<String, List<Long>> idsByStatus = new LinkedHashMap<>();
+        statusById.forEach((id, status) -> idsByStatus.computeIfAbsent(status, k -> new ArrayList<>()).add(id));
+
+        List<StatusChange> changes = grievanceJdbcRepository.updateStatuses(idsByStatus, LocalDateTime.now());
+        List<Grievance> updated = new ArrayList<>(changes.size());
+        for (StatusChange change : changes) {
+            Grievance grievance = change.grievance();
+            afterStatusChange(new GrievanceStatsService.StatsKey(grievance.getCategory(), change.previousStatus(),
+                    change.previousPriority(), change.wasOverdue()), grievance);
+            updated.add(grievance);
+        }
+
+        Map<Long, String> usernames = usernameCache.getAll(updated.stream().map(Grievance::getUserId).collect(Collectors.toSet()));
+        List<GrievanceDto> dtos = updated.stream().map(g -> convertToDto(g, usernames.get(g.getUserId()))).collect(Collectors.toList());
+        if (!dtos.isEmpty()) {
+            grievanceBroadcaster.publishAll(dtos);
+        }
+        return dtos;
+    }
+
+    // Keeps the in-memory indexes in step after a grievance's status changed.
+    private void afterStatusChange(GrievanceStatsService.StatsKey before, Grievance updated) {
+        if ("Resolved".equals(updated.getStatus())) {
+            escalationService.untrack(updated.getId());
+        } else {
+            escalationService.track(updated.getId(), updated.getCategory(), updated.getDeadline(), updated.getEscalationLevel());
+        }
+        mapsService.indexGrievance(updated);
+        duplicateDetector.register(updated);
+        statsService.recordChanged(before, updated);
+        if ("Resolved".equals(updated.getStatus()) && !"Resolved".equals(before.status())) {
+            slaAnalyticsService.recordResolved(updated);
+        }
+        versions.grievanceChanged(updated.getId(), updated.getUserId());
+    }
     
+    // Removes the grievance, leaves a tombstone for delta sync and tells connected dashboards.
+    // Returns false if there was no such grievance.
+    public boolean deleteGrievance(Long id) {
+        Grievance deleted = grievanceJdbcRepository.deleteWithTombstone(id, LocalDateTime.now());
+        if (deleted == null) {
+            return false;
+        }
+        escalationService.untrack(id);
+        mapsService.removeGrievance(id);
+        duplicateDetector.remove(id);
+        searchService.removeGrievance(id);
+        statsService.recordDeleted(GrievanceStatsService.StatsKey.of(deleted));
+        fileStorageService.release(deleted.getFileUrl());
+        versions.grievanceChanged(id, deleted.getUserId());
+        grievanceBroadcaster.publishDeleted(id, deleted.getUserId());
+        coReporters.remove(id);
+        return true;
+    }
+
     public GrievanceDto updateMyGrievance(Long grievanceId, GrievanceDto dto, String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
@@ -88,29 +286,56 @@ public class GrievanceService {
             throw new AccessDeniedException("User is not authorized to edit this grievance");
         }
 
+        GrievanceStatsService.StatsKey before = GrievanceStatsService.StatsKey.of(grievance);
         grievance.setTitle(dto.title());
         grievance.setDescription(dto.description());
         grievance.setCategory(dto.category());
         
         Grievance updatedGrievance = grievanceRepository.save(grievance);
+        if (!"Resolved".equals(updatedGrievance.getStatus())) {
+            // The category decides the ladder intervals, so reschedule the next step
+            escalationService.track(grievanceId, updatedGrievance.getCategory(), updatedGrievance.getDeadline(), updatedGrievance.getEscalationLevel());
+        }
+        mapsService.indexGrievance(updatedGrievance);
+        duplicateDetector.register(updatedGrievance);
+        searchService.indexGrievance(updatedGrievance);
+        statsService.recordChanged(before, updatedGrievance);
+        versions.grievanceChanged(grievanceId, updatedGrievance.getUserId());
         
-        GrievanceDto updatedDto = convertToDto(updatedGrievance, Map.of(user.getId(), user));
-        messagingTemplate.convertAndSend("/topic/grievances", updatedDto);
+        GrievanceDto updatedDto = convertToDto(updatedGrievance, user.getUsername());
+        grievanceBroadcaster.publish(updatedDto);
         
         return updatedDto;
     }
     
     public List<GrievanceDto> getGrievancesByUsername(String username) {
         User user = userRepository.findByUsername(username).orElseThrow(() -> new RuntimeException("User not found"));
-        Map<Long, User> userMap = Map.of(user.getId(), user);
-        
-        return grievanceRepository.findGrievancesByUserId(user.getId()).stream()
-                .map(grievance -> convertToDto(grievance, userMap))
+
+        List<GrievanceDto> own = grievanceRepository.findGrievancesByUserId(user.getId()).stream()
+                .map(grievance -> convertToDto(grievance, user.getUsername()))
                 .collect(Collectors.toList());
+        List<GrievanceDto> coReported = grievanceRepository.findCoReportedByUserId(user.getId()).stream()
+                .map(grievance -> redactForCoReporter(convertToDto(grievance, null)))
+                .collect(Collectors.toList());
+        if (coReported.isEmpty()) {
+            return own;
+        }
+        List<GrievanceDto> all = new ArrayList<>(own);
+        all.addAll(coReported);
+        // Newest first, like each list on its own
+        all.sort(Comparator.comparing(GrievanceDto::createdAt, Comparator.nullsLast(Comparator.reverseOrder())));
+        return all;
+    }
+
+    // What a villager sees of a grievance someone else reported first: the issue and its progress, not who
+    // reported it, where they were or their photo.
+    static GrievanceDto redactForCoReporter(GrievanceDto dto) {
+        return new GrievanceDto(dto.id(), dto.title(), dto.description(), dto.status(), dto.priority(), dto.category(),
+                dto.createdAt(), null, null, null, null, dto.isOverdue(), dto.reportCount(), dto.escalationLevel(),
+                null, null);
     }
     
-    private LocalDateTime calculateDeadline(String category) {
-        LocalDateTime now = LocalDateTime.now();
+    static LocalDateTime calculateDeadline(String category, LocalDateTime now) {
         switch (category.toLowerCase()) {
             case "water": case "electricity": return now.plusDays(2);
             case "health": return now.plusDays(3);
@@ -119,15 +344,30 @@ public class GrievanceService {
         }
     }
 
-    private GrievanceDto convertToDto(Grievance grievance, Map<Long, User> userMap) {
-        User user = userMap.get(grievance.getUserId());
-        String username = (user != null) ? user.getUsername() : "Unknown User";
+    GrievanceDto convertToDto(GrievanceListItem item) {
+        ImageVariantService.Variants variants = imageVariantService.resolve(item.fileUrl());
+        return new GrievanceDto(
+                item.id(), item.title(), item.description(),
+                item.status(), item.priority(), item.category(),
+                item.createdAt() != null ? item.createdAt().format(DateTimeFormatter.ISO_DATE_TIME) : null,
+                item.submittedBy() != null ? item.submittedBy() : "Unknown User",
+                item.latitude(), item.longitude(), item.fileUrl(),
+                item.isOverdue(), item.reportCount() != null ? item.reportCount() : 1,
+                item.escalationLevel() != null ? item.escalationLevel() : 0,
+                variants.thumbnailUrl(), variants.mediumUrl()
+        );
+    }
+
+    private GrievanceDto convertToDto(Grievance grievance, String submittedBy) {
+        String username = (submittedBy != null) ? submittedBy : "Unknown User";
+        ImageVariantService.Variants variants = imageVariantService.resolve(grievance.getFileUrl());
         return new GrievanceDto(
                 grievance.getId(), grievance.getTitle(), grievance.getDescription(),
                 grievance.getStatus(), grievance.getPriority(), grievance.getCategory(),
                 grievance.getCreatedAt() != null ? grievance.getCreatedAt().format(DateTimeFormatter.ISO_DATE_TIME) : null,
                 username, grievance.getLatitude(), grievance.getLongitude(), grievance.getFileUrl(),
-                grievance.isOverdue(), grievance.getReportCount(), grievance.getEscalationLevel()
+                grievance.isOverdue(), grievance.getReportCount(), grievance.getEscalationLevel(),
+                variants.thumbnailUrl(), variants.mediumUrl()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+// In backend/src/main/java/com/gramalertplus/service/GrievanceStatsService.java
+package com.gramalertplus.service;
+
+import com.gramalertplus.dto.GrievanceStatsDto;
+import com.gramalertplus.entity.Grievance;
+import com.gramalertplus.repository.GrievanceCount;
+import com.gramalertplus.repository.GrievanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live dashboard counters broken down by category x status x priority x overdue.
+ *
+ * Every code path that creates or changes a grievance moves one unit between buckets (LongAdder per bucket,
+ * so concurrent writers don't contend). The whole table is re-aggregated with a single GROUP BY at startup
+ * and every stats.reconcile-interval-ms; that replaces the counters wholesale and corrects any drift from
+ * writes made outside this instance or racing the previous reconciliation.
+ */
+@Service
+public class GrievanceStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrievanceStatsService.class);
+
+    @Autowired
+    private GrievanceRepository grievanceRepository;
+
+    private volatile Map<StatsKey, LongAdder> counters = new ConcurrentHashMap<>();
+    private volatile LocalDateTime reconciledAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${stats.reconcile-interval-ms:600000}", fixedDelayString = "${stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        Map<StatsKey, LongAdder> fresh = new ConcurrentHashMap<>();
+        for (GrievanceCount row : grievanceRepository.countByBreakdown()) {
+            LongAdder adder = new LongAdder();
+            adder.add(row.count());
+            fresh.put(new StatsKey(row.category(), row.status(), row.priority(), row.isOverdue()), adder);
+        }
+        counters = fresh;
+        reconciledAt = LocalDateTime.now();
+        logger.debug("Grievance counters reconciled ({} buckets).", fresh.size());
+    }
+
+    public void recordCreated(Grievance grievance) {
+        adjust(StatsKey.of(grievance), 1);
+    }
+
+    // before is the grievance's key captured prior to the change.
+    public void recordChanged(StatsKey before, Grievance after) {
+        recordChanged(before, StatsKey.of(after));
+    }
+
+    public void recordChanged(StatsKey before, StatsKey after) {
+        if (before.equals(after)) {
+            return;
+        }
+        adjust(before, -1);
+        adjust(after, 1);
+    }
+
+    public void recordDeleted(StatsKey before) {
+        adjust(before, -1);
+    }
+
+    public GrievanceStatsDto getStats() {
+        long total = 0;
+        long overdue = 0;
+        Map<String, Long> byCategory = new TreeMap<>();
+        Map<String, Long> byStatus = new TreeMap<>();
+        Map<String, Long> byPriority = new TreeMap<>();
+        Map<String, Map<String, Long>> byCategoryAndStatus = new TreeMap<>();
+
+        for (Map.Entry<StatsKey, LongAdder> entry : counters.entrySet()) {
+            long count = entry.getValue().sum();
+            if (count <= 0) {
+                continue;
+            }
+            StatsKey key = entry.getKey();
+            total += count;
+            if (key.overdue()) {
+                overdue += count;
+            }
+            byCategory.merge(label(key.category()), count, Long::sum);
+            byStatus.merge(label(key.status()), count, Long::sum);
+            byPriority.merge(label(key.priority()), count, Long::sum);
+            byCategoryAndStatus.computeIfAbsent(label(key.category()), k -> new TreeMap<>())
+                    .merge(label(key.status()), count, Long::sum);
+        }
+        return new GrievanceStatsDto(total, overdue, byCategory, byStatus, byPriority, byCategoryAndStatus,
+                reconciledAt != null ? reconciledAt.format(DateTimeFormatter.ISO_DATE_TIME) : null);
+    }
+
+    private void adjust(StatsKey key, long delta) {
+        counters.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    private static String label(String value) {
+        return value != null ? value : "Unknown";
+    }
+
+    public record StatsKey(String category, String status, String priority, boolean overdue) {
+
+        public static StatsKey of(Grievance grievance) {
+            return new StatsKey(grievance.getCategory(), grievance.getStatus(), grievance.getPriority(), grievance.isOverdue());
+        }
+    }
+}
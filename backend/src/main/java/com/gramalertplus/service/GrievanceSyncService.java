@@ -0,0 +1,93 @@
+// In backend/src/main/java/com/gramalertplus/service/GrievanceSyncService.java
+package com.gramalertplus.service;
+
+import com.gramalertplus.dto.GrievanceChangesDto;
+import com.gramalertplus.repository.GrievanceListItem;
+import com.gramalertplus.repository.GrievanceRepository;
+import com.gramalertplus.repository.GrievanceTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Delta sync for clients that keep a local copy of the grievance list: each call returns what was
+// created, updated or deleted after the client's cursor, walking (updated_at, id) in ascending order.
+@Service
+public class GrievanceSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrievanceSyncService.class);
+
+    private static final int DEFAULT_PAGE_SIZE = 200;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private GrievanceRepository grievanceRepository;
+
+    @Autowired
+    private GrievanceTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private GrievanceService grievanceService;
+
+    // Rows written in the last settleMs are held back: a transaction that started earlier may still commit
+    // an older updated_at, and a cursor that had already moved past it would never see the row.
+    @Value("${sync.settle-ms:2000}")
+    private long settleMs;
+
+    @Value("${sync.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
+
+    // A null cursor starts from the beginning (full snapshot, page by page).
+    // Throws IllegalArgumentException for a malformed cursor and CursorExpiredException when deletions
+    // since the cursor may already have been pruned; the client must then reload the full list.
+    public GrievanceChangesDto getChanges(String cursor, Integer pageSize) {
+        int limit = pageSize == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        KeysetCursor after = cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor) : new KeysetCursor(BEGINNING, 0);
+        // Only a caught-up cursor (id = MAX) carries the time of the client's last sync; mid-pagination cursors
+        // carry the timestamp of an arbitrarily old row and are always followed up immediately.
+        if (after.id() == Long.MAX_VALUE && after.at().isBefore(LocalDateTime.now().minusDays(tombstoneRetentionDays))) {
+            throw new CursorExpiredException();
+        }
+
+        LocalDateTime upTo = LocalDateTime.now().minus(settleMs, ChronoUnit.MILLIS).truncatedTo(ChronoUnit.MICROS);
+        if (!upTo.isAfter(after.at())) {
+            return new GrievanceChangesDto(List.of(), List.of(), after.encode(), false);
+        }
+
+        List<GrievanceListItem> changed = grievanceRepository.findChangedSince(after.at(), after.id(), upTo, limit);
+        boolean hasMore = changed.size() == limit;
+        // A full page ends part-way through the window; only report deletions up to where the page stopped
+        KeysetCursor next = hasMore
+                ? new KeysetCursor(changed.get(changed.size() - 1).updatedAt(), changed.get(changed.size() - 1).id())
+                : new KeysetCursor(upTo, Long.MAX_VALUE);
+        List<Long> deleted = after.at().equals(BEGINNING) ? List.of() : tombstoneRepository.findIdsDeletedBetween(after.at(), next.at());
+
+        return new GrievanceChangesDto(
+                changed.stream().map(grievanceService::convertToDto).collect(Collectors.toList()),
+                deleted, next.encode(), hasMore);
+    }
+
+    @Scheduled(cron = "${sync.tombstone-prune-cron:0 30 3 * * *}")
+    public void pruneTombstones() {
+        int pruned = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+        if (pruned > 0) {
+            logger.info("Pruned {} grievance tombstones older than {} days.", pruned, tombstoneRetentionDays);
+        }
+    }
+
+    public static class CursorExpiredException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public CursorExpiredException() {
+            super("Sync cursor is older than the tombstone retention window; reload the full list");
+        }
+    }
+}
@@ -0,0 +1,305 @@
+// In backend/src/main/java/com/gramalertplus/service/ImageVariantService.java
+package com.gramalertplus.service;
+
+import com.gramalertplus.repository.GrievanceOwner;
+import com.gramalertplus.repository.GrievanceRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Produces downscaled JPEG variants of uploaded photos so list views don't pull full-size images.
+ *
+ * Variants are rendered on a small bounded pool, never on a request thread, and written next to the
+ * original as {@code <name>_thumb.jpg} and {@code <name>_medium.jpg}. Until they exist, callers get the
+ * original URL back. Work is only queued for new uploads and by an explicit backfill, never by reads: which
+ * images already have variants is learned from one scan of the upload directory at startup, so resolving a
+ * URL is a map lookup. When the queue is full a request is dropped; run the backfill again to pick it up.
+ */
+@Component
+public class ImageVariantService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageVariantService.class);
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+    private static final String THUMBNAIL_SUFFIX = "_thumb.jpg";
+    private static final String MEDIUM_SUFFIX = "_medium.jpg";
+
+    public record Variants(String thumbnailUrl, String mediumUrl) {}
+
+    @Autowired
+    private CollectionVersions versions;
+
+    @Autowired
+    private GrievanceRepository grievanceRepository;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Value("${images.variants.thumbnail-size:200}")
+    private int thumbnailSize;
+
+    @Value("${images.variants.medium-size:800}")
+    private int mediumSize;
+
+    @Value("${images.variants.threads:2}")
+    private int threads;
+
+    @Value("${images.variants.queue-capacity:200}")
+    private int queueCapacity;
+
+    // fileUrl -> true once both variants are on disk, false if the file can't be turned into variants
+    private final Map<String, Boolean> ready = new ConcurrentHashMap<>();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicLong dropped = new AtomicLong();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variants");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    // Learns which stored images already have both variants on disk
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadReady() {
+        forEachStoredImage(fileUrl -> {
+            if (Files.exists(pathOf(variantUrl(fileUrl, THUMBNAIL_SUFFIX))) && Files.exists(pathOf(variantUrl(fileUrl, MEDIUM_SUFFIX)))) {
+                ready.put(fileUrl, true);
+            }
+        });
+        logger.info("Found image variants for {} stored uploads.", ready.size());
+    }
+
+    // Queues generation for every stored image without variants, e.g. uploads from before variants existed.
+    // Returns how many were queued; images that didn't fit in the queue are counted as dropped.
+    public int backfill() {
+        int[] queued = {0};
+        forEachStoredImage(fileUrl -> {
+            if (submit(fileUrl)) {
+                queued[0]++;
+            }
+        });
+        return queued[0];
+    }
+
+    // Queues variant generation for a newly stored upload. Never blocks; false if nothing was queued.
+    public boolean submit(String fileUrl) {
+        if (fileUrl == null || !isImage(fileUrl) || ready.containsKey(fileUrl) || !pending.add(fileUrl)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    boolean generated = generate(fileUrl);
+                    ready.put(fileUrl, generated);
+                    if (generated) {
+                        // Cached grievance responses, /my-requests included, still point at the original
+                        versionsChanged(fileUrl);
+                    }
+                } finally {
+                    pending.remove(fileUrl);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(fileUrl);
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private void versionsChanged(String fileUrl) {
+        versions.grievancesChanged();
+        try {
+            for (GrievanceOwner grievance : grievanceRepository.findOwnersByFileUrl(fileUrl)) {
+                versions.grievanceChanged(grievance.id(), grievance.userId());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not look up grievances using {}: {}", fileUrl, e.getMessage());
+        }
+    }
+
+    // Variant URLs for a grievance attachment: the variants if they're ready, otherwise the original.
+    // Both null for attachments that aren't images. Runs for every grievance shown, so no I/O here.
+    public Variants resolve(String fileUrl) {
+        if (fileUrl == null || !isImage(fileUrl)) {
+            return new Variants(null, null);
+        }
+        if (Boolean.TRUE.equals(ready.get(fileUrl))) {
+            return new Variants(variantUrl(fileUrl, THUMBNAIL_SUFFIX), variantUrl(fileUrl, MEDIUM_SUFFIX));
+        }
+        return new Variants(fileUrl, fileUrl);
+    }
+
+    // Called when the original is deleted from the store.
+    public void deleteVariants(String fileUrl) {
+        ready.remove(fileUrl);
+        try {
+            Files.deleteIfExists(pathOf(variantUrl(fileUrl, THUMBNAIL_SUFFIX)));
+            Files.deleteIfExists(pathOf(variantUrl(fileUrl, MEDIUM_SUFFIX)));
+        } catch (IOException e) {
+            logger.warn("Could not delete image variants of {}: {}", fileUrl, e.getMessage());
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // Originals under the upload directory, as their /uploads/ URLs; variants and unfinished uploads are skipped
+    private void forEachStoredImage(Consumer<String> action) {
+        Path root = Paths.get(uploadDir);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        Path tmp = root.resolve("tmp");
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(path -> !path.startsWith(tmp) && Files.isRegularFile(path))
+                    .map(path -> "/uploads/" + root.relativize(path).toString().replace('\\', '/'))
+                    .filter(url -> isImage(url) && !url.endsWith(THUMBNAIL_SUFFIX) && !url.endsWith(MEDIUM_SUFFIX))
+                    .forEach(action);
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Could not scan {} for images: {}", root, e.getMessage());
+        }
+    }
+
+    private boolean generate(String fileUrl) {
+        Path original = pathOf(fileUrl);
+        try {
+            BufferedImage image = read(original, mediumSize);
+            if (image == null) {
+                return false;
+            }
+            write(scale(image, mediumSize), pathOf(variantUrl(fileUrl, MEDIUM_SUFFIX)));
+            write(scale(image, thumbnailSize), pathOf(variantUrl(fileUrl, THUMBNAIL_SUFFIX)));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not create image variants for {}: {}", fileUrl, e.getMessage());
+            return false;
+        }
+    }
+
+    // Decodes with source subsampling so a 12-megapixel photo is never held in memory at full size.
+    private static BufferedImage read(Path file, int targetSize) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longestSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                // Keep at least 2x the target resolution so the final smooth downscale still has detail to work with
+                int subsampling = Math.max(1, longestSide / (targetSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int maxSide) {
+        double factor = Math.min(1.0, (double) maxSide / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * factor));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * factor));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG has no alpha; flatten transparent PNGs onto white
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    // Written to a temp name and moved into place so a half-written variant is never served
+    private static void write(BufferedImage image, Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".part");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0.8f);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static boolean isImage(String fileUrl) {
+        int dot = fileUrl.lastIndexOf('.');
+        return dot > fileUrl.lastIndexOf('/') && IMAGE_EXTENSIONS.contains(fileUrl.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private static String variantUrl(String fileUrl, String suffix) {
+        int dot = fileUrl.lastIndexOf('.');
+        return (dot > fileUrl.lastIndexOf('/') ? fileUrl.substring(0, dot) : fileUrl) + suffix;
+    }
+
+    private Path pathOf(String url) {
+        return Paths.get(uploadDir).resolve(url.substring("/uploads/".length()));
+    }
+}
@@ -0,0 +1,76 @@
+// In backend/src/main/java/com/gramalertplus/service/LatencyHistogram.java
+package com.gramalertplus.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, log-linear histogram of non-negative durations (in seconds), in the spirit of HdrHistogram.
+ *
+ * Values below 64 get their own bucket; above that every power of two is split into 32 linear sub-buckets,
+ * so any recorded value is reported within ~3% of its true value. Memory is constant (about 1200 counters
+ * covers values up to 2^40 seconds) and recording is a single atomic increment.
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;      // 64
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;      // 32
+    private static final int MAX_SHIFT = 40 - SUB_BUCKET_BITS + 1;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + MAX_SHIFT * HALF_SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    void record(long value) {
+        counts.incrementAndGet(indexOf(Math.max(0, value)));
+    }
+
+    long count() {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    // Value at the given percentile (0-100), or 0 if nothing has been recorded.
+    long percentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return midpointOf(i);
+            }
+        }
+        return midpointOf(BUCKET_COUNT - 1);
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        // Shift so the value lands in [32, 64), then keep the 5 bits below the leading one
+        int shift = Math.min(63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1), MAX_SHIFT);
+        long subBucket = Math.min(value >> shift, SUB_BUCKETS - 1) - HALF_SUB_BUCKETS;
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) subBucket;
+    }
+
+    private static long midpointOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long subBucket = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        long lower = subBucket << shift;
+        return lower + (1L << shift) / 2;
+    }
+}
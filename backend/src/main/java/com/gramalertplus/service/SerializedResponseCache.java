@@ -0,0 +1,70 @@
+// In backend/src/main/java/com/gramalertplus/service/SerializedResponseCache.java
+package com.gramalertplus.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Already-encoded JSON (plain and gzip) for hot read endpoints.
+ *
+ * An entry is tagged with the collection version it was built from (see {@link CollectionVersions}) and
+ * optionally a time after which it goes stale anyway (e.g. the next alert start/end). While both hold,
+ * a request is answered by writing the stored bytes: no repository call, no DTO mapping, no Jackson.
+ */
+@Component
+public class SerializedResponseCache {
+
+    public record Body(byte[] json, byte[] gzip, long version, LocalDateTime validUntil) {
+        boolean isValid(long currentVersion) {
+            return version == currentVersion && (validUntil == null || LocalDateTime.now().isBefore(validUntil));
+        }
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Cache<String, Body> bodies;
+
+    public SerializedResponseCache(@Value("${response-cache.max-entries:256}") long maxEntries) {
+        this.bodies = Caffeine.newBuilder().maximumSize(maxEntries).build();
+    }
+
+    // Returns the cached body for key if it was built at currentVersion, otherwise loads, encodes and stores it.
+    // The version must be read before loading so a write racing with the load leaves the entry stale, not wrong.
+    public Body get(String key, long currentVersion, LocalDateTime validUntil, Supplier<?> loader) {
+        Body cached = bodies.getIfPresent(key);
+        if (cached != null && cached.isValid(currentVersion)) {
+            return cached;
+        }
+        Body fresh = encode(loader.get(), currentVersion, validUntil);
+        bodies.put(key, fresh);
+        return fresh;
+    }
+
+    private Body encode(Object value, long version, LocalDateTime validUntil) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            return new Body(json, compressed.toByteArray(), version, validUntil);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise cached response", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+// In backend/src/main/java/com/gramalertplus/service/SlaAnalyticsService.java
+package com.gramalertplus.service;
+
+import com.gramalertplus.dto.SlaReportDto;
+import com.gramalertplus.dto.SlaSummaryDto;
+import com.gramalertplus.entity.Grievance;
+import com.gramalertplus.repository.GrievanceRepository;
+import com.gramalertplus.repository.ResolvedGrievance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Resolution-time SLA analytics.
+ *
+ * Keeps constant-memory LatencyHistograms of time-to-resolve and time-past-deadline, overall, per category
+ * and per escalation level. GrievanceService records each grievance as it is marked Resolved; at startup
+ * the histograms are rebuilt from resolved history in one streaming pass, so no query holds the whole
+ * history in memory and percentile reads never touch the database.
+ */
+@Service
+public class SlaAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlaAnalyticsService.class);
+
+    @Autowired
+    private GrievanceRepository grievanceRepository;
+
+    private final SlaHistograms overall = new SlaHistograms();
+    private final Map<String, SlaHistograms> byCategory = new ConcurrentHashMap<>();
+    private final Map<Integer, SlaHistograms> byEscalationLevel = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        LongAdder rows = new LongAdder();
+        try (Stream<ResolvedGrievance> resolved = grievanceRepository.streamResolved()) {
+            resolved.forEach(r -> {
+                record(r.category(), r.escalationLevel(), r.createdAt(), r.deadline(), r.resolvedAt());
+                rows.increment();
+            });
+        }
+        logger.info("SLA histograms rebuilt from {} resolved grievances in {} ms.", rows.sum(), System.currentTimeMillis() - start);
+    }
+
+    public void recordResolved(Grievance grievance) {
+        record(grievance.getCategory(), grievance.getEscalationLevel(), grievance.getCreatedAt(),
+                grievance.getDeadline(), grievance.getResolvedAt());
+    }
+
+    public SlaReportDto getReport() {
+        Map<String, SlaSummaryDto> categories = new TreeMap<>();
+        byCategory.forEach((category, histograms) -> categories.put(category, histograms.summary()));
+        Map<Integer, SlaSummaryDto> levels = new TreeMap<>();
+        byEscalationLevel.forEach((level, histograms) -> levels.put(level, histograms.summary()));
+        return new SlaReportDto(overall.summary(), categories, levels);
+    }
+
+    private void record(String category, Integer escalationLevel, LocalDateTime createdAt, LocalDateTime deadline, LocalDateTime resolvedAt) {
+        if (createdAt == null || resolvedAt == null) {
+            return;
+        }
+        long toResolve = Duration.between(createdAt, resolvedAt).getSeconds();
+        long pastDeadline = deadline != null ? Math.max(0, Duration.between(deadline, resolvedAt).getSeconds()) : 0;
+
+        overall.record(toResolve, pastDeadline);
+        byCategory.computeIfAbsent(category != null ? category.toLowerCase() : "unknown", k -> new SlaHistograms())
+                .record(toResolve, pastDeadline);
+        byEscalationLevel.computeIfAbsent(escalationLevel != null ? escalationLevel : 0, k -> new SlaHistograms())
+                .record(toResolve, pastDeadline);
+    }
+
+    private static class SlaHistograms {
+        private final LatencyHistogram timeToResolve = new LatencyHistogram();
+        private final LatencyHistogram pastDeadline = new LatencyHistogram();
+        private final LongAdder late = new LongAdder();
+
+        void record(long toResolveSeconds, long pastDeadlineSeconds) {
+            timeToResolve.record(toResolveSeconds);
+            pastDeadline.record(pastDeadlineSeconds);
+            if (pastDeadlineSeconds > 0) {
+                late.increment();
+            }
+        }
+
+        SlaSummaryDto summary() {
+            return new SlaSummaryDto(timeToResolve.count(), late.sum(),
+                    hours(timeToResolve.percentile(50)), hours(timeToResolve.percentile(90)), hours(timeToResolve.percentile(99)),
+                    hours(pastDeadline.percentile(50)), hours(pastDeadline.percentile(90)), hours(pastDeadline.percentile(99)));
+        }
+
+        private static double hours(long seconds) {
+            return Math.round(seconds / 36.0) / 100.0;
+        }
+    }
+}
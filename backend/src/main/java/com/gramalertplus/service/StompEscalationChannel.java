@@ -0,0 +1,21 @@
+// In backend/src/main/java/com/gramalertplus/service/StompEscalationChannel.java
+package com.gramalertplus.service;
+
+import com.gramalertplus.dto.EscalationNoticeDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+// Default channel: pushes the notice to admin dashboards subscribed to /topic/admin/escalations. Notices name
+// the grievance, so they stay under /topic/admin/, which WebSocketAuthInterceptor keeps to admins.
+@Component
+public class StompEscalationChannel implements EscalationChannel {
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void deliver(EscalationNoticeDto notice) {
+        messagingTemplate.convertAndSend("/topic/admin/escalations", notice);
+    }
+}
@@ -25,6 +25,12 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UsernameCache usernameCache;
+
+    @Autowired
+    private CollectionVersions versions;
+
     public User registerNewUser(RegistrationRequest registrationRequest) throws Exception {
         if (userRepository.findByUsername(registrationRequest.getUsername()).isPresent()) {
             throw new Exception("Username already exists");
@@ -63,10 +69,12 @@ public class UserService {
         if (id == 1L) {
             throw new UnsupportedOperationException("Cannot delete the primary admin account.");
         }
-        if (!userRepository.existsById(id)) {
-            throw new EntityNotFoundException("User not found with id: " + id);
-        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
         userRepository.deleteById(id);
+        usernameCache.invalidate(id);
+        versions.userGrievancesChanged(user.getUsername());
+        versions.grievancesChanged();
     }
 
     public ProfileDto getUserProfile(String username) {
@@ -98,6 +106,10 @@ public class UserService {
         }
 
         userRepository.save(userToUpdate);
+        // Grievance DTOs show the reporter's username, so a rename must not be served stale
+        usernameCache.invalidate(userToUpdate.getId());
+        versions.userGrievancesChanged(currentUsername);
+        versions.grievancesChanged(userToUpdate.getId());
     }
 
     // highlight-start
@@ -0,0 +1,61 @@
+// In backend/src/main/java/com/gramalertplus/service/UsernameCache.java
+package com.gramalertplus.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.gramalertplus.dto.CacheStatsDto;
+import com.gramalertplus.entity.User;
+import com.gramalertplus.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// user id -> username for building grievance DTOs without a user query per response.
+// Bounded (size-based eviction); UserService invalidates entries on rename and delete.
+@Component
+public class UsernameCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, String> usernames;
+
+    public UsernameCache(UserRepository userRepository, @Value("${users.username-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.usernames = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    // Null for unknown users; misses are not cached, so a user created later is still found.
+    public String get(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return usernames.get(userId, id -> userRepository.findById(id).map(User::getUsername).orElse(null));
+    }
+
+    // All misses are loaded with a single findAllById.
+    public Map<Long, String> getAll(Collection<Long> userIds) {
+        return usernames.getAll(userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet()), missing -> userRepository.findAllById(new ArrayList<Long>(missing)).stream()
+                .collect(Collectors.toMap(User::getId, User::getUsername)));
+    }
+
+    public void put(User user) {
+        usernames.put(user.getId(), user.getUsername());
+    }
+
+    public void invalidate(Long userId) {
+        usernames.invalidate(userId);
+    }
+
+    public CacheStatsDto getStats() {
+        CacheStats stats = usernames.stats();
+        return new CacheStatsDto(usernames.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+    }
+}
@@ -0,0 +1,234 @@
+package com.gramalertplus.websocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A WebSocket session whose sendMessage only enqueues.
+ *
+ * Frames go into a bounded per-session queue and are written to the network by a drain task on the
+ * OutboundQueueManager's executor, at most one drain per session at a time. A client on a bad link
+ * therefore only ever fills its own queue; the threads fanning messages out never block on it. When the
+ * queue is full the configured OverflowPolicy decides what gives. Only STOMP MESSAGE frames are subject
+ * to the policy; CONNECTED, RECEIPT, ERROR and heartbeats are always queued.
+ */
+class BoundedOutboundSession extends WebSocketSessionDecorator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedOutboundSession.class);
+
+    // Frames written per drain run before yielding the thread to other sessions
+    private static final int DRAIN_BATCH = 64;
+
+    private record Frame(WebSocketMessage<?> message, boolean droppable, String coalesceKey) {}
+
+    private final OutboundQueueManager manager;
+    private final Deque<Frame> queue = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    // When the write in progress started (System.nanoTime()), for the manager's send time limit
+    private volatile boolean sending;
+    private volatile long sendStartedAt;
+
+    BoundedOutboundSession(WebSocketSession delegate, OutboundQueueManager manager) {
+        super(delegate);
+        this.manager = manager;
+    }
+
+    int depth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closed) {
+            return;
+        }
+        Frame frame = toFrame(message);
+        boolean overflow = false;
+        synchronized (queue) {
+            if (queue.size() < manager.getCapacity() || !frame.droppable()) {
+                queue.addLast(frame);
+            } else {
+                overflow = !applyPolicy(frame);
+            }
+        }
+        if (overflow) {
+            manager.recordDisconnect();
+            closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+            return;
+        }
+        scheduleDrain();
+    }
+
+    // Runs under the queue lock with the queue full. Returns false if the session has to be closed.
+    private boolean applyPolicy(Frame frame) {
+        switch (manager.getPolicy()) {
+            case DISCONNECT:
+                queue.clear();
+                return false;
+            case COALESCE:
+                if (frame.coalesceKey() != null) {
+                    for (Iterator<Frame> it = queue.iterator(); it.hasNext(); ) {
+                        if (frame.coalesceKey().equals(it.next().coalesceKey())) {
+                            it.remove();
+                            queue.addLast(frame);
+                            manager.recordCoalesced();
+                            return true;
+                        }
+                    }
+                }
+                // Nothing to merge with: make room like DROP_OLDEST
+                dropOldest(frame);
+                return true;
+            case DROP_OLDEST:
+            default:
+                dropOldest(frame);
+                return true;
+        }
+    }
+
+    // Runs under the queue lock: discards the oldest droppable frame to make room for this one
+    private void dropOldest(Frame frame) {
+        for (Iterator<Frame> it = queue.iterator(); it.hasNext(); ) {
+            if (it.next().droppable()) {
+                it.remove();
+                break;
+            }
+        }
+        queue.addLast(frame);
+        manager.recordDropped();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            manager.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < DRAIN_BATCH && !closed; i++) {
+                Frame frame;
+                synchronized (queue) {
+                    frame = queue.pollFirst();
+                }
+                if (frame == null) {
+                    break;
+                }
+                sendStartedAt = System.nanoTime();
+                sending = true;
+                try {
+                    getDelegate().sendMessage(frame.message());
+                } finally {
+                    sending = false;
+                }
+                manager.recordSent();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Closing WebSocket session {} after failed send: {}", getId(), e.getMessage());
+            closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+        } finally {
+            draining.set(false);
+        }
+        if (!closed && depth() > 0) {
+            scheduleDrain();
+        }
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        markClosed();
+        super.close(status);
+    }
+
+    boolean isSendStalled(long now, long limitNanos) {
+        return sending && !closed && now - sendStartedAt > limitNanos;
+    }
+
+    void closeStalled() {
+        logger.debug("Closing WebSocket session {}: send blocked for longer than the time limit", getId());
+        manager.recordDisconnect();
+        closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    void markClosed() {
+        closed = true;
+        synchronized (queue) {
+            queue.clear();
+        }
+    }
+
+    private void closeQuietly(CloseStatus status) {
+        try {
+            close(status);
+        } catch (IOException e) {
+            logger.debug("Error closing WebSocket session {}", getId(), e);
+        }
+    }
+
+    private static Frame toFrame(WebSocketMessage<?> message) {
+        if (!(message instanceof TextMessage text)) {
+            return new Frame(message, false, null);
+        }
+        String payload = text.getPayload();
+        if (!payload.startsWith("MESSAGE\n")) {
+            return new Frame(message, false, null);
+        }
+        return new Frame(message, true, coalesceKey(payload));
+    }
+
+    // "<destination>|<subscription>|<entity>" for frames that carry a whole entity (an object starting with
+    // "id") or a short scalar such as a deleted id. A newer frame with the same key supersedes the queued one.
+    // The subscription is part of the key because a session may subscribe to one destination twice, and each
+    // subscription has to get its own copy.
+    static String coalesceKey(String frame) {
+        int headersEnd = frame.indexOf("\n\n");
+        if (headersEnd < 0) {
+            return null;
+        }
+        String destination = header(frame, "destination", headersEnd);
+        if (destination == null) {
+            return null;
+        }
+        String subscription = header(frame, "subscription", headersEnd);
+        String prefix = destination + "|" + (subscription != null ? subscription : "") + "|";
+
+        int bodyStart = headersEnd + 2;
+        int bodyEnd = frame.endsWith("\0") ? frame.length() - 1 : frame.length();
+        if (frame.startsWith("{\"id\":", bodyStart)) {
+            int idStart = bodyStart + "{\"id\":".length();
+            int idEnd = idStart;
+            while (idEnd < bodyEnd && Character.isDigit(frame.charAt(idEnd))) {
+                idEnd++;
+            }
+            return idEnd > idStart ? prefix + frame.substring(idStart, idEnd) : null;
+        }
+        if (bodyEnd - bodyStart <= 32 && bodyEnd > bodyStart && frame.charAt(bodyStart) != '[') {
+            return prefix + frame.substring(bodyStart, bodyEnd);
+        }
+        return null;
+    }
+
+    private static String header(String frame, String name, int headersEnd) {
+        String marker = "\n" + name + ":";
+        int start = frame.indexOf(marker);
+        if (start < 0 || start > headersEnd) {
+            return null;
+        }
+        start += marker.length();
+        return frame.substring(start, frame.indexOf('\n', start));
+    }
+}
@@ -0,0 +1,160 @@
+package com.gramalertplus.websocket;
+
+import com.gramalertplus.dto.OutboundQueueStatsDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Owns the bounded outbound queue of every STOMP WebSocket session and the executor that drains them.
+ *
+ * Installed as a WebSocketHandlerDecoratorFactory: each new session is wrapped in a BoundedOutboundSession
+ * before the STOMP handler sees it, so everything Spring sends to the client goes through the queue.
+ * The broker and clientOutboundChannel threads only enqueue; network writes happen on drain-threads,
+ * each session drained by one thread at a time. A watchdog closes any session whose write has been blocked
+ * for longer than send-time-limit-ms, which frees its drain thread for the other sessions.
+ */
+@Component
+public class OutboundQueueManager implements WebSocketHandlerDecoratorFactory {
+
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final ExecutorService drainExecutor;
+    private final ScheduledExecutorService watchdog;
+    private final long sendTimeLimitNanos;
+    private final Map<String, BoundedOutboundSession> sessions = new ConcurrentHashMap<>();
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder disconnected = new LongAdder();
+
+    public OutboundQueueManager(@Value("${websocket.outbound.queue-capacity:256}") int capacity,
+                                @Value("${websocket.outbound.overflow-policy:coalesce}") String policy,
+                                @Value("${websocket.outbound.drain-threads:4}") int drainThreads,
+                                @Value("${websocket.outbound.send-time-limit-ms:10000}") long sendTimeLimitMs) {
+        this.capacity = capacity;
+        this.policy = OverflowPolicy.fromProperty(policy);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.drainExecutor = Executors.newFixedThreadPool(drainThreads, runnable -> {
+            Thread thread = new Thread(runnable, "ws-drain-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMs);
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ws-send-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkIntervalMs = Math.max(10, sendTimeLimitMs / 4);
+        watchdog.scheduleWithFixedDelay(this::closeStalledSessions, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                BoundedOutboundSession bounded = new BoundedOutboundSession(session, OutboundQueueManager.this);
+                sessions.put(session.getId(), bounded);
+                super.afterConnectionEstablished(bounded);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                super.handleMessage(bounded(session), message);
+            }
+
+            @Override
+            public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+                super.handleTransportError(bounded(session), exception);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                BoundedOutboundSession bounded = sessions.remove(session.getId());
+                if (bounded != null) {
+                    bounded.markClosed();
+                }
+                super.afterConnectionClosed(bounded != null ? bounded : session, closeStatus);
+            }
+        };
+    }
+
+    public OutboundQueueStatsDto getStats() {
+        long queued = 0;
+        int maxDepth = 0;
+        for (BoundedOutboundSession session : sessions.values()) {
+            int depth = session.depth();
+            queued += depth;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+        return new OutboundQueueStatsDto(policy.name(), capacity, sessions.size(), queued, maxDepth,
+                sent.sum(), dropped.sum(), coalesced.sum(), disconnected.sum());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        drainExecutor.shutdownNow();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    void execute(Runnable drain) {
+        drainExecutor.execute(drain);
+    }
+
+    void recordSent() {
+        sent.increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    void recordDisconnect() {
+        disconnected.increment();
+    }
+
+    // Closing the underlying session makes the blocked write fail, which ends the drain run
+    private void closeStalledSessions() {
+        long now = System.nanoTime();
+        for (BoundedOutboundSession session : sessions.values()) {
+            if (session.isSendStalled(now, sendTimeLimitNanos)) {
+                session.closeStalled();
+            }
+        }
+    }
+
+    private WebSocketSession bounded(WebSocketSession session) {
+        BoundedOutboundSession bounded = sessions.get(session.getId());
+        return bounded != null ? bounded : session;
+    }
+}
@@ -0,0 +1,19 @@
+package com.gramalertplus.websocket;
+
+import java.util.Locale;
+
+// What a full per-session outbound queue does with one more MESSAGE frame.
+public enum OverflowPolicy {
+    // Discard the oldest queued MESSAGE frame
+    DROP_OLDEST,
+    // Replace a queued frame carrying an older version of the same entity on the same destination;
+    // falls back to DROP_OLDEST when nothing can be merged
+    COALESCE,
+    // Close the session; the client reconnects and reloads over REST
+    DISCONNECT;
+
+    // Accepts the property spelling: drop-oldest, coalesce, disconnect
+    public static OverflowPolicy fromProperty(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
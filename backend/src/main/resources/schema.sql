@@ -40,6 +40,11 @@ CREATE TABLE IF NOT EXISTS alerts (
     description TEXT NOT NULL,
     category VARCHAR(50) NOT NULL, -- electricity, water, health, emergency, other
     severity VARCHAR(20) DEFAULT 'medium', -- high, medium, low
+    area_type VARCHAR(20), -- circle, polygon; NULL = everyone
+    area_center_lat DOUBLE PRECISION,
+    area_center_lng DOUBLE PRECISION,
+    area_radius_km DOUBLE PRECISION,
+    area_polygon TEXT, -- "lat,lng;lat,lng;..."
     created_by BIGINT NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (created_by) REFERENCES users(id) ON DELETE CASCADE
@@ -66,11 +71,56 @@ CREATE TABLE IF NOT EXISTS comments (
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
 );
 
+-- Content-addressed uploads: one row per distinct file content (SHA-256), shared by every grievance
+-- that uploaded the same bytes
+CREATE TABLE IF NOT EXISTS stored_files (
+    hash VARCHAR(64) PRIMARY KEY,
+    url VARCHAR(255) NOT NULL UNIQUE,
+    size_bytes BIGINT NOT NULL,
+    content_type VARCHAR(255),
+    ref_count INTEGER NOT NULL DEFAULT 1,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Deleted grievance ids, so delta-sync clients can drop them from their local copy
+CREATE TABLE IF NOT EXISTS grievance_tombstones (
+    grievance_id BIGINT PRIMARY KEY,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+-- Reports by other villagers merged into an existing grievance (see GrievanceReport)
+CREATE TABLE IF NOT EXISTS grievance_reports (
+    id BIGSERIAL PRIMARY KEY,
+    grievance_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    reported_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Id sequences. The entities use pooled sequences (increment 50) so inserts can be batched;
+-- SequenceInitializer moves them past the existing max(id) at startup.
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS grievances_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS alerts_seq INCREMENT BY 50;
+
 -- Indexes for better query performance
-CREATE INDEX idx_grievances_status ON grievances(status);
-CREATE INDEX idx_grievances_priority ON grievances(priority);
 CREATE INDEX idx_grievances_user_id ON grievances(user_id);
-CREATE INDEX idx_grievances_created_at ON grievances(created_at);
+-- Keyset pagination: (filter column, created_at, id) so filtered pages are a single index range scan
+CREATE INDEX idx_grievances_created_id ON grievances(created_at, id);
+CREATE INDEX idx_grievances_status_created_id ON grievances(status, created_at, id);
+CREATE INDEX idx_grievances_category_created_id ON grievances(category, created_at, id);
+CREATE INDEX idx_grievances_priority_created_id ON grievances(priority, created_at, id);
+-- Delta sync (/grievances/changes) walks (updated_at, id)
+CREATE INDEX idx_grievances_updated_id ON grievances(updated_at, id);
+-- Grievances sharing a stored file, when its image variants become ready
+CREATE INDEX IF NOT EXISTS idx_grievances_file_url ON grievances(file_url);
+CREATE INDEX idx_grievance_tombstones_deleted_at ON grievance_tombstones(deleted_at);
+CREATE INDEX IF NOT EXISTS idx_grievance_reports_grievance_id ON grievance_reports(grievance_id);
+CREATE INDEX IF NOT EXISTS idx_grievance_reports_user_id ON grievance_reports(user_id);
+CREATE INDEX IF NOT EXISTS idx_grievances_overdue_created_id ON grievances(is_overdue, created_at, id);
+-- Escalation scheduler: only unresolved grievances can still move up the ladder
+CREATE INDEX IF NOT EXISTS idx_grievances_pending_deadline ON grievances(escalation_level, deadline) WHERE status <> 'Resolved';
+CREATE INDEX idx_escalations_grievance_id ON escalations(grievance_id);
 CREATE INDEX idx_alerts_created_at ON alerts(created_at);
 
 -- TODO: Add triggers for automatic deadline calculation
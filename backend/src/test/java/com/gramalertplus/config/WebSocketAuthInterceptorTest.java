@@ -0,0 +1,122 @@
+package com.gramalertplus.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sends SUBSCRIBE frames through Spring's STOMP handler into a channel guarded by WebSocketAuthInterceptor,
+ * as on a live connection, and checks which ones come back as an ERROR frame instead of reaching the broker.
+ */
+class WebSocketAuthInterceptorTest {
+
+    private final StompSubProtocolHandler stompHandler = new StompSubProtocolHandler();
+    private final ExecutorSubscribableChannel inbound = new ExecutorSubscribableChannel();
+    private final List<Message<?>> delivered = new ArrayList<>();
+    private final List<String> sentToClient = new ArrayList<>();
+    private final List<AccessDeniedException> denied = new ArrayList<>();
+
+    WebSocketAuthInterceptorTest() {
+        WebSocketAuthInterceptor auth = new WebSocketAuthInterceptor();
+        // The ERROR frame only says the send failed; record why, to be sure it was this check
+        inbound.addInterceptor(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                try {
+                    return auth.preSend(message, channel);
+                } catch (AccessDeniedException e) {
+                    denied.add(e);
+                    throw e;
+                }
+            }
+        });
+        inbound.subscribe(delivered::add);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic/**", "/topic/*/grievances", "/topic/admin/*", "/topic/admin/{kind}", "/topic/alert?"})
+    void patternSubscriptionFromNonAdminIsRejected(String destination) throws Exception {
+        subscribe(destination, user("villager", "USER"));
+
+        assertError(destination);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic/admin", "/topic/admin/grievances"})
+    void adminTopicsNeedAnAdmin(String destination) throws Exception {
+        subscribe(destination, null);
+        assertError(destination);
+
+        sentToClient.clear();
+        denied.clear();
+        subscribe(destination, user("villager", "USER"));
+        assertError(destination);
+    }
+
+    @Test
+    void adminCanSubscribeToAdminTopics() throws Exception {
+        subscribe("/topic/admin/grievances", user("officer", "ADMIN"));
+
+        assertTrue(sentToClient.isEmpty(), "unexpected frames: " + sentToClient);
+        assertEquals(1, delivered.size());
+    }
+
+    @Test
+    void publicTopicIsOpenToEveryone() throws Exception {
+        subscribe("/topic/alerts", null);
+
+        assertTrue(sentToClient.isEmpty(), "unexpected frames: " + sentToClient);
+        assertEquals(1, delivered.size());
+    }
+
+    private void assertError(String destination) {
+        assertTrue(delivered.isEmpty(), destination + " reached the broker");
+        assertEquals(1, sentToClient.size(), "expected one ERROR frame for " + destination);
+        assertTrue(sentToClient.get(0).startsWith("ERROR\n"), "expected an ERROR frame, got " + sentToClient.get(0));
+        assertEquals(1, denied.size(), "expected the subscription to be denied: " + sentToClient.get(0));
+    }
+
+    private void subscribe(String destination, Principal user) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("session-1");
+        when(session.getAttributes()).thenReturn(new ConcurrentHashMap<>());
+        when(session.getPrincipal()).thenReturn(user);
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            sentToClient.add(((TextMessage) message).getPayload());
+            return null;
+        }).when(session).sendMessage(any());
+
+        stompHandler.afterSessionStarted(session, inbound);
+        String frame = "SUBSCRIBE\nid:sub-0\ndestination:" + destination + "\n\n\0";
+        stompHandler.handleMessageFromClient(session, new TextMessage(frame), inbound);
+    }
+
+    private static Principal user(String username, String authority) {
+        return new UsernamePasswordAuthenticationToken(username, null, List.of(new SimpleGrantedAuthority(authority)));
+    }
+}
@@ -0,0 +1,201 @@
+package com.gramalertplus.maps;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares GeoGridIndex radius, box and k-nearest queries with a naive full scan computing Haversine
+ * distance to every point. Each query is checked against the scan for the same answer. The timings are
+ * wall-clock and would flake on a busy machine, so they are tagged "benchmark", which the build excludes
+ * by default; run them with {@code mvn test -Dgroups=benchmark -DexcludedGroups=none}.
+ */
+class GeoGridIndexBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeoGridIndexBenchmarkTest.class);
+
+    private static final int POINTS = 100_000;
+    private static final int QUERIES = 100;
+    // Queries whose answers are checked against the scan before timing
+    private static final int CHECKED = 20;
+    // Roughly a district: about 1.5 x 1.5 degrees
+    private static final double MIN_LAT = 18.0, MIN_LNG = 73.0, SPAN = 1.5;
+
+    private static List<GeoPoint> points;
+    private static GeoGridIndex index;
+    private static double[][] queries;
+
+    @BeforeAll
+    static void load() {
+        Random random = new Random(42);
+        points = new ArrayList<>(POINTS);
+        index = new GeoGridIndex(0.01);
+        for (long id = 1; id <= POINTS; id++) {
+            GeoPoint point = new GeoPoint(id, MIN_LAT + random.nextDouble() * SPAN, MIN_LNG + random.nextDouble() * SPAN,
+                    "Water", "Received");
+            points.add(point);
+            index.put(point);
+        }
+        queries = new double[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new double[] { MIN_LAT + random.nextDouble() * SPAN, MIN_LNG + random.nextDouble() * SPAN };
+        }
+    }
+
+    private static final double RADIUS_KM = 2.0;
+    private static final double BOX_HALF_DEGREES = 0.02;
+    private static final int K = 10;
+    private static final double MAX_RADIUS_KM = 50.0;
+
+    @Test
+    void radiusQueryMatchesScan() {
+        double radiusKm = RADIUS_KM;
+        for (double[] q : checkedQueries()) {
+            Set<Long> expected = points.stream()
+                    .filter(p -> GeoGridIndex.haversineKm(q[0], q[1], p.latitude(), p.longitude()) <= radiusKm)
+                    .map(GeoPoint::id).collect(Collectors.toSet());
+            Set<Long> actual = index.withinRadius(q[0], q[1], radiusKm, p -> true).stream()
+                    .map(n -> n.point().id()).collect(Collectors.toSet());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void boxQueryMatchesScan() {
+        double half = BOX_HALF_DEGREES;
+        for (double[] q : checkedQueries()) {
+            Set<Long> expected = points.stream().filter(p -> inBox(p, q, half)).map(GeoPoint::id).collect(Collectors.toSet());
+            Set<Long> actual = index.withinBox(q[0] - half, q[1] - half, q[0] + half, q[1] + half, p -> true).stream()
+                    .map(GeoPoint::id).collect(Collectors.toSet());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void nearestMatchesScan() {
+        int k = K;
+        for (double[] q : checkedQueries()) {
+            List<Double> expected = points.stream()
+                    .map(p -> GeoGridIndex.haversineKm(q[0], q[1], p.latitude(), p.longitude()))
+                    .sorted().limit(k).collect(Collectors.toList());
+            List<Double> actual = index.nearest(q[0], q[1], k, MAX_RADIUS_KM, p -> true).stream()
+                    .map(GeoGridIndex.Neighbour::distanceKm).collect(Collectors.toList());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void radiusQueryIsFasterThanScan() {
+        double radiusKm = RADIUS_KM;
+        long grid = time(() -> {
+            int n = 0;
+            for (double[] q : queries) n += index.withinRadius(q[0], q[1], radiusKm, p -> true).size();
+            return n;
+        });
+        long scan = time(() -> {
+            int n = 0;
+            for (double[] q : queries) {
+                for (GeoPoint p : points) {
+                    if (GeoGridIndex.haversineKm(q[0], q[1], p.latitude(), p.longitude()) <= radiusKm) n++;
+                }
+            }
+            return n;
+        });
+        report("radius 2km", grid, scan);
+        assertTrue(grid < scan, "grid radius query should beat a full scan");
+    }
+
+    @Test
+    @Tag("benchmark")
+    void boxQueryIsFasterThanScan() {
+        double half = BOX_HALF_DEGREES;
+        long grid = time(() -> {
+            int n = 0;
+            for (double[] q : queries) n += index.withinBox(q[0] - half, q[1] - half, q[0] + half, q[1] + half, p -> true).size();
+            return n;
+        });
+        long scan = time(() -> {
+            int n = 0;
+            for (double[] q : queries) {
+                for (GeoPoint p : points) {
+                    if (inBox(p, q, half)) n++;
+                }
+            }
+            return n;
+        });
+        report("box 0.04deg", grid, scan);
+        assertTrue(grid < scan, "grid box query should beat a full scan");
+    }
+
+    @Test
+    @Tag("benchmark")
+    void nearestIsFasterThanScan() {
+        int k = K;
+        long grid = time(() -> {
+            int n = 0;
+            for (double[] q : queries) n += index.nearest(q[0], q[1], k, MAX_RADIUS_KM, p -> true).size();
+            return n;
+        });
+        long scan = time(() -> {
+            int n = 0;
+            for (double[] q : queries) {
+                // One Haversine per point, keeping the best k in a max-heap
+                PriorityQueue<Double> best = new PriorityQueue<>(Comparator.reverseOrder());
+                for (GeoPoint p : points) {
+                    double d = GeoGridIndex.haversineKm(q[0], q[1], p.latitude(), p.longitude());
+                    if (best.size() < k) {
+                        best.add(d);
+                    } else if (d < best.peek()) {
+                        best.poll();
+                        best.add(d);
+                    }
+                }
+                n += best.size();
+            }
+            return n;
+        });
+        report("nearest k=10", grid, scan);
+        assertTrue(grid < scan, "grid k-nearest query should beat a full scan");
+    }
+
+    private static List<double[]> checkedQueries() {
+        return List.of(queries).subList(0, CHECKED);
+    }
+
+    private static boolean inBox(GeoPoint p, double[] q, double half) {
+        return p.latitude() >= q[0] - half && p.latitude() <= q[0] + half
+                && p.longitude() >= q[1] - half && p.longitude() <= q[1] + half;
+    }
+
+    // Best of three runs after one warm-up, in nanoseconds
+    private static long time(Supplier<Integer> run) {
+        run.get();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            run.get();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static void report(String query, long gridNanos, long scanNanos) {
+        logger.info(String.format("GeoGridIndex %-13s %d queries over %d points: grid %.2f ms, scan %.2f ms (%.0fx)",
+                query, QUERIES, POINTS, gridNanos / 1e6, scanNanos / 1e6, (double) scanNanos / gridNanos));
+    }
+}
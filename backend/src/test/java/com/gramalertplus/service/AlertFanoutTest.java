@@ -0,0 +1,82 @@
+package com.gramalertplus.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gramalertplus.dto.AlertAreaDto;
+import com.gramalertplus.dto.AlertDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Geo-targeted alerts are serialized once and sent as bytes; what reaches the client must be the alert's
+ * JSON object, not that byte array re-encoded by the broker's converter chain.
+ */
+class AlertFanoutTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final List<Message<?>> sent = new ArrayList<>();
+    private final AlertFanout fanout = new AlertFanout(0.05);
+
+    @BeforeEach
+    void setUp() {
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+        // The chain Spring's broker configuration installs by default
+        MappingJackson2MessageConverter jackson = new MappingJackson2MessageConverter();
+        jackson.setObjectMapper(objectMapper);
+        template.setMessageConverter(new CompositeMessageConverter(
+                List.of(new StringMessageConverter(), new ByteArrayMessageConverter(), jackson)));
+        ReflectionTestUtils.setField(fanout, "messagingTemplate", template);
+        ReflectionTestUtils.setField(fanout, "objectMapper", objectMapper);
+    }
+
+    @Test
+    void targetedAlertGoesOutAsJsonObject() throws Exception {
+        fanout.register("session-1", 18.52, 73.85);
+        AlertAreaDto area = new AlertAreaDto("circle", 18.52, 73.85, 5.0, null);
+        fanout.publish(new AlertDto(1L, "Flood warning", "Move to higher ground", "Weather", "High",
+                null, null, null, area), null);
+
+        List<Message<?>> targeted = sent.stream()
+                .filter(m -> "/user/session-1/queue/alerts".equals(SimpMessageHeaderAccessor.getDestination(m.getHeaders())))
+                .collect(Collectors.toList());
+        assertEquals(1, targeted.size(), "destinations: " + sent.stream()
+                .map(m -> SimpMessageHeaderAccessor.getDestination(m.getHeaders())).toList());
+
+        String body = wireBody(targeted.get(0));
+        JsonNode alert = objectMapper.readTree(body);
+        assertTrue(alert.isObject(), "expected a JSON object on the wire, got " + body);
+        assertEquals(1L, alert.get("id").asLong());
+        assertEquals("Flood warning", alert.get("title").asText());
+    }
+
+    // Encodes the message as the STOMP MESSAGE frame the client would read and returns its body
+    private static String wireBody(Message<?> message) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId("1");
+        String frame = new String(new StompEncoder().encode(accessor.getMessageHeaders(), (byte[]) message.getPayload()),
+                StandardCharsets.UTF_8);
+        return frame.substring(frame.indexOf("\n\n") + 2, frame.length() - 1);
+    }
+}
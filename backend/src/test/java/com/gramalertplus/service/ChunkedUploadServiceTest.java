@@ -0,0 +1,89 @@
+package com.gramalertplus.service;
+
+import com.gramalertplus.dto.UploadSessionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Once an upload is complete its bytes are pinned to the hash: later chunk writes are refused, so the file
+ * handed to the content-addressed store is exactly what was hashed.
+ */
+class ChunkedUploadServiceTest {
+
+    private static final byte[] CONTENT = "original bytes".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path uploadDir;
+
+    private final ChunkedUploadService service = new ChunkedUploadService();
+    private final FileStorageService storage = mock(FileStorageService.class);
+    private byte[] stored;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(service, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(service, "maxSize", 1024L);
+        ReflectionTestUtils.setField(service, "sessionTtlHours", 24L);
+        ReflectionTestUtils.setField(service, "maxSessionsPerUser", 5);
+        ReflectionTestUtils.setField(service, "maxBytesPerUser", 4096L);
+        ReflectionTestUtils.setField(service, "fileStorageService", storage);
+        when(storage.storeContent(any(), anyString(), anyLong(), any(), any())).thenAnswer(invocation -> {
+            stored = Files.readAllBytes(invocation.getArgument(0));
+            return "/uploads/" + invocation.getArgument(1);
+        });
+    }
+
+    @Test
+    void writeAfterCompleteIsRejected() throws Exception {
+        String id = upload();
+        UploadSessionDto completed = service.complete(id, "villager", null);
+
+        assertThrows(IllegalStateException.class, () -> write(id, 0, "tampered bytes".getBytes(StandardCharsets.UTF_8)));
+
+        String url = service.attach(id, "villager");
+        assertEquals("/uploads/" + sha256(CONTENT), url);
+        assertEquals(sha256(CONTENT), completed.sha256());
+        assertArrayEquals(CONTENT, stored);
+    }
+
+    @Test
+    void writeAfterAttachIsRejected() throws Exception {
+        String id = upload();
+        service.complete(id, "villager", null);
+        service.attach(id, "villager");
+
+        assertThrows(IllegalArgumentException.class, () -> write(id, 0, CONTENT));
+    }
+
+    private String upload() throws Exception {
+        String id = service.create("photo.jpg", CONTENT.length, "image/jpeg", "villager").id();
+        write(id, 0, CONTENT);
+        return id;
+    }
+
+    private void write(String id, long start, byte[] bytes) throws Exception {
+        service.writeChunk(id, "villager", start, bytes.length, new ByteArrayInputStream(bytes));
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+}
@@ -0,0 +1,48 @@
+package com.gramalertplus.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * CSV exports are opened in spreadsheets, so reporter-supplied text that looks like a formula must come
+ * out as inert text.
+ */
+class GrievanceExportServiceTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '`', value = {
+        "=HYPERLINK(\"http://x\")|\"'=HYPERLINK(\"\"http://x\"\")\"",
+        "+91 98765|\"'+91 98765\"",
+        "-2+3|\"'-2+3\"",
+        "@SUM(A1)|\"'@SUM(A1)\"",
+        "Broken hand pump|Broken hand pump",
+        "Pump, ward 3|\"Pump, ward 3\""
+    })
+    void formulaTextIsNeutralised(String value, String expected) throws IOException {
+        assertEquals(expected, csv(value));
+    }
+
+    @Test
+    void leadingTabOrCarriageReturnIsNeutralised() throws IOException {
+        assertEquals("\"'\tcmd\"", csv("\tcmd"));
+        assertEquals("\"'\rcmd\"", csv("\rcmd"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-73.85", "0"})
+    void numbersAreWrittenAsIs(double value) throws IOException {
+        assertEquals(Double.toString(value), csv(value));
+    }
+
+    private static String csv(Object value) throws IOException {
+        StringWriter writer = new StringWriter();
+        GrievanceExportService.writeCsvField(writer, value);
+        return writer.toString();
+    }
+}
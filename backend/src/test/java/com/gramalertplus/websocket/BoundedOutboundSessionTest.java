@@ -0,0 +1,37 @@
+package com.gramalertplus.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Coalescing may only replace a queued frame with a newer copy of the same entity for the same
+ * subscription; two subscriptions to one destination each keep their own frame.
+ */
+class BoundedOutboundSessionTest {
+
+    @Test
+    void sameEntityOnSameSubscriptionShareAKey() {
+        assertEquals(BoundedOutboundSession.coalesceKey(frame("sub-0", "{\"id\":7,\"status\":\"Pending\"}")),
+                BoundedOutboundSession.coalesceKey(frame("sub-0", "{\"id\":7,\"status\":\"Resolved\"}")));
+    }
+
+    @Test
+    void subscriptionsToOneDestinationDoNotCoalesce() {
+        assertNotEquals(BoundedOutboundSession.coalesceKey(frame("sub-0", "{\"id\":7}")),
+                BoundedOutboundSession.coalesceKey(frame("sub-1", "{\"id\":7}")));
+        assertNotEquals(BoundedOutboundSession.coalesceKey(frame("sub-0", "7")),
+                BoundedOutboundSession.coalesceKey(frame("sub-1", "7")));
+    }
+
+    @Test
+    void listsHaveNoKey() {
+        assertNull(BoundedOutboundSession.coalesceKey(frame("sub-0", "[1,2,3]")));
+    }
+
+    private static String frame(String subscription, String body) {
+        return "MESSAGE\ndestination:/topic/grievances\nsubscription:" + subscription + "\nmessage-id:1\n\n" + body + "\0";
+    }
+}
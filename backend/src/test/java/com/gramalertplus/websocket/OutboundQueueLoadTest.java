@@ -0,0 +1,264 @@
+package com.gramalertplus.websocket;
+
+import com.gramalertplus.dto.OutboundQueueStatsDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fans MESSAGE frames out to 10,000 sessions through OutboundQueueManager, with a share of them stalled:
+ * their writes block until the session is closed. The fan-out must never wait on a stalled client, every
+ * queue must stay within capacity, every healthy session must get all its frames in order, and every
+ * stalled session must be closed by the send time limit.
+ */
+class OutboundQueueLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboundQueueLoadTest.class);
+
+    private static final int SESSIONS = 10_000;
+    private static final int STALLED = 50;
+    private static final int CAPACITY = 32;
+    private static final int FRAMES = CAPACITY;
+    private static final int DRAIN_THREADS = 16;
+    private static final long SEND_TIME_LIMIT_MS = 200;
+
+    private final OutboundQueueManager manager = new OutboundQueueManager(CAPACITY, "drop-oldest", DRAIN_THREADS, SEND_TIME_LIMIT_MS);
+
+    @AfterEach
+    void shutdown() {
+        manager.shutdown();
+    }
+
+    @Test
+    @Timeout(60)
+    void slowClientsDoNotHoldUpTheRest() throws Exception {
+        List<StubSession> stubs = new ArrayList<>(SESSIONS);
+        List<WebSocketSession> bounded = new ArrayList<>(SESSIONS);
+        Map<String, WebSocketSession> connected = new ConcurrentHashMap<>();
+        WebSocketHandler handler = manager.decorate(new CapturingHandler(connected));
+        for (int i = 0; i < SESSIONS; i++) {
+            StubSession stub = new StubSession("s" + i, i % (SESSIONS / STALLED) == 0);
+            handler.afterConnectionEstablished(stub);
+            stubs.add(stub);
+            bounded.add(connected.get(stub.getId()));
+        }
+
+        // Overfill the stalled sessions first: their queues have to give, not grow
+        for (int i = 0; i < SESSIONS; i++) {
+            if (stubs.get(i).stalled) {
+                for (int seq = 0; seq < 3 * CAPACITY; seq++) {
+                    bounded.get(i).sendMessage(frame(-1));
+                }
+            }
+        }
+        assertTrue(manager.getStats().droppedFrames() > 0, "stalled sessions should have dropped frames");
+
+        long start = System.nanoTime();
+        for (int seq = 0; seq < FRAMES; seq++) {
+            TextMessage message = frame(seq);
+            for (WebSocketSession session : bounded) {
+                session.sendMessage(message);
+            }
+        }
+        double fanoutMs = (System.nanoTime() - start) / 1e6;
+        OutboundQueueStatsDto afterFanout = manager.getStats();
+        assertTrue(afterFanout.maxQueueDepth() <= CAPACITY, "a queue grew past capacity: " + afterFanout.maxQueueDepth());
+
+        // Bounded by the test's timeout
+        while (!(allDelivered(stubs) && manager.getStats().disconnectedSessions() == STALLED)) {
+            Thread.sleep(50);
+        }
+
+        OutboundQueueStatsDto stats = manager.getStats();
+        logger.info(String.format("Outbound fan-out of %d frames to %d sessions (%d stalled): enqueue %.1f ms, sent %d, dropped %d, disconnected %d",
+                FRAMES, SESSIONS, STALLED, fanoutMs, stats.sentFrames(), stats.droppedFrames(), stats.disconnectedSessions()));
+        for (StubSession stub : stubs) {
+            if (stub.stalled) {
+                assertFalse(stub.isOpen(), "stalled session " + stub.getId() + " was not closed");
+            } else {
+                assertTrue(stub.isOpen(), "healthy session " + stub.getId() + " was closed");
+                assertEquals(FRAMES, stub.received, "frames delivered to " + stub.getId());
+                assertFalse(stub.outOfOrder, "frames out of order on " + stub.getId());
+            }
+        }
+        assertEquals(STALLED, stats.disconnectedSessions());
+    }
+
+    private static boolean allDelivered(List<StubSession> stubs) {
+        for (StubSession stub : stubs) {
+            if (!stub.stalled && stub.received < FRAMES) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // A body starting with '[' has no coalesce key, so every frame is delivered or dropped on its own
+    private static TextMessage frame(int seq) {
+        return new TextMessage("MESSAGE\ndestination:/topic/alerts\nsubscription:sub-0\n\n[" + seq + "]\0");
+    }
+
+    private static int seqOf(String payload) {
+        int start = payload.indexOf("\n\n[") + 3;
+        return Integer.parseInt(payload.substring(start, payload.indexOf(']', start)));
+    }
+
+    private record CapturingHandler(Map<String, WebSocketSession> connected) implements WebSocketHandler {
+        @Override
+        public void afterConnectionEstablished(WebSocketSession session) {
+            connected.put(session.getId(), session);
+        }
+
+        @Override
+        public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) {
+        }
+
+        @Override
+        public void handleTransportError(WebSocketSession session, Throwable exception) {
+        }
+
+        @Override
+        public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) {
+        }
+
+        @Override
+        public boolean supportsPartialMessages() {
+            return false;
+        }
+    }
+
+    // A healthy session records what it gets; a stalled one blocks in sendMessage until it is closed
+    private static final class StubSession implements WebSocketSession {
+        final String id;
+        final boolean stalled;
+        private final CountDownLatch closedLatch = new CountDownLatch(1);
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        volatile int received;
+        volatile boolean outOfOrder;
+        private int lastSeq = -1;
+
+        StubSession(String id, boolean stalled) {
+            this.id = id;
+            this.stalled = stalled;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            if (stalled) {
+                try {
+                    closedLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Connection closed");
+            }
+            int seq = seqOf(((TextMessage) message).getPayload());
+            if (seq != lastSeq + 1) {
+                outOfOrder = true;
+            }
+            lastSeq = seq;
+            received++;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return closedLatch.getCount() > 0;
+        }
+
+        @Override
+        public void close() {
+            closedLatch.countDown();
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            closedLatch.countDown();
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+    }
+}
@@ -40,6 +40,10 @@ export default function AdminDashboard() {
     const [newAlertDesc, setNewAlertDesc] = useState("");
     const [newAlertStart, setNewAlertStart] = useState<Date | undefined>();
     const [newAlertEnd, setNewAlertEnd] = useState<Date | undefined>();
+    // Optional circular area; left empty the alert goes to everyone
+    const [newAlertLat, setNewAlertLat] = useState("");
+    const [newAlertLng, setNewAlertLng] = useState("");
+    const [newAlertRadius, setNewAlertRadius] = useState("");
 
     const fetchData = async () => {
         if (!token) return;
@@ -47,7 +51,7 @@ export default function AdminDashboard() {
         try {
             const [grievancesRes, alertsRes] = await Promise.all([
                 fetch(`${API_URL}/grievances`, { headers: { 'Authorization': `Bearer ${token}` } }),
-                fetch(`${API_URL}/alerts`, { headers: { 'Authorization': `Bearer ${token}` } })
+                fetch(`${API_URL}/alerts?scope=all`, { headers: { 'Authorization': `Bearer ${token}` } })
             ]);
             if (!grievancesRes.ok || !alertsRes.ok) throw new Error('Failed to fetch data');
             setGrievances(await grievancesRes.json());
@@ -62,7 +66,12 @@ export default function AdminDashboard() {
 
     useEffect(() => { if (token) fetchData(); }, [token]);
 
-    const handleGrievanceUpdate = (updatedGrievance: Grievance) => {
+    // The server sends either a single grievance or a batch (e.g. after a bulk status update).
+    const handleGrievanceUpdate = (payload: Grievance | Grievance[]) => {
+        (Array.isArray(payload) ? payload : [payload]).forEach(applyGrievanceUpdate);
+    };
+
+    const applyGrievanceUpdate = (updatedGrievance: Grievance) => {
         setGrievances(prev => {
             const exists = prev.some(g => g.id === updatedGrievance.id);
             if (exists) {
@@ -72,6 +81,10 @@ export default function AdminDashboard() {
         });
     };
 
+    const handleGrievanceDelete = (deletedId: number) => {
+        setGrievances(prev => prev.filter(g => g.id !== deletedId));
+    };
+
     const handleAlertUpdate = (updatedAlert: Alert) => {
       setAlerts(prev => {
           const exists = prev.some(a => a.id === updatedAlert.id);
@@ -87,8 +100,11 @@ export default function AdminDashboard() {
         toast({ title: "Alert Deleted", description: "The alert has been successfully removed." });
     };
     
-    useWebSocket('/topic/grievances', handleGrievanceUpdate, token);
-    useWebSocket('/topic/alerts', handleAlertUpdate, token);
+    // Full grievance updates are only published on the admin topics
+    useWebSocket('/topic/admin/grievances', handleGrievanceUpdate, token);
+    useWebSocket('/topic/admin/grievances/deleted', handleGrievanceDelete, token);
+    // Every alert, including geo-targeted ones that /topic/alerts doesn't carry
+    useWebSocket('/topic/admin/alerts', handleAlertUpdate, token);
     useWebSocket('/topic/alerts/deleted', handleAlertDelete, token);
 
     const handleStatusChange = async (id: number, newStatus: string) => {
@@ -112,11 +128,15 @@ export default function AdminDashboard() {
         if (!token) return;
         const url = editingAlert ? `${API_URL}/alerts/${editingAlert.id}` : `${API_URL}/alerts`;
         const method = editingAlert ? 'PUT' : 'POST';
+        const area = newAlertLat && newAlertLng && newAlertRadius
+            ? { type: 'circle', centerLat: Number(newAlertLat), centerLng: Number(newAlertLng), radiusKm: Number(newAlertRadius) }
+            // Keep an existing polygon (set through the API) when editing other fields
+            : editingAlert?.area?.type === 'polygon' ? editingAlert.area : null;
         try {
             const response = await fetch(url, {
                 method: method,
                 headers: { 'Content-Type': 'application/json', 'Authorization': `Bearer ${token}` },
-                body: JSON.stringify({ title: newAlertTitle, description: newAlertDesc, category: 'General', severity: 'Medium', startTime: newAlertStart?.toISOString(), endTime: newAlertEnd?.toISOString() })
+                body: JSON.stringify({ title: newAlertTitle, description: newAlertDesc, category: 'General', severity: 'Medium', startTime: newAlertStart?.toISOString(), endTime: newAlertEnd?.toISOString(), area })
             });
             if (!response.ok) throw new Error(`Failed to ${method === 'POST' ? 'create' : 'update'} alert`);
             toast({ title: "Success", description: `Alert has been ${method === 'POST' ? 'created' : 'updated'}.` });
@@ -147,6 +167,10 @@ export default function AdminDashboard() {
         setNewAlertDesc(alert.description);
         setNewAlertStart(alert.startTime ? parseISO(alert.startTime) : undefined);
         setNewAlertEnd(alert.endTime ? parseISO(alert.endTime) : undefined);
+        const circle = alert.area?.type === 'circle' ? alert.area : null;
+        setNewAlertLat(circle?.centerLat != null ? String(circle.centerLat) : "");
+        setNewAlertLng(circle?.centerLng != null ? String(circle.centerLng) : "");
+        setNewAlertRadius(circle?.radiusKm != null ? String(circle.radiusKm) : "");
         setAlertDialogOpen(true);
     };
     
@@ -156,6 +180,9 @@ export default function AdminDashboard() {
         setNewAlertDesc("");
         setNewAlertStart(undefined);
         setNewAlertEnd(undefined);
+        setNewAlertLat("");
+        setNewAlertLng("");
+        setNewAlertRadius("");
         setAlertDialogOpen(true);
     };
     
@@ -247,7 +274,7 @@ export default function AdminDashboard() {
                                                             <div><h4 className="font-semibold mb-1">Description</h4><p className="text-sm text-muted-foreground break-words">{g.description}</p></div>
                                                             {g.isOverdue && <div className="flex items-center gap-2 text-destructive font-semibold"><AlertTriangle className="h-4 w-4" /> This grievance is overdue.</div>}
                                                             <div><h4 className="font-semibold mb-1">Escalation Level</h4><p className="text-sm text-muted-foreground">{getEscalationLevelName(g.escalationLevel)}</p></div>
-                                                            <div><h4 className="font-semibold mb-1">Attached Image</h4>{g.fileUrl ? <img src={`${API_URL}${g.fileUrl}`} alt="Attached file" className="mt-2 rounded-md border max-h-60 w-full object-cover" /> : <p className="text-sm text-muted-foreground">No image was attached.</p>}</div>
+                                                            <div><h4 className="font-semibold mb-1">Attached Image</h4>{g.fileUrl ? <img src={`${API_URL}${g.mediumUrl ?? g.fileUrl}`} loading="lazy" alt="Attached file" className="mt-2 rounded-md border max-h-60 w-full object-cover" /> : <p className="text-sm text-muted-foreground">No image was attached.</p>}</div>
                                                         </div>
                                                         <div className="h-80 w-full rounded-md bg-muted flex items-center justify-center text-muted-foreground overflow-hidden">
                                                             {g.latitude && g.longitude ? ( <DynamicMapDisplay lat={g.latitude} lng={g.longitude} /> ) : ( <p>Location not provided.</p> )}
@@ -312,6 +339,11 @@ export default function AdminDashboard() {
                             <div className="space-y-2"><Label>Start Date</Label><Popover><PopoverTrigger asChild><Button variant={"outline"} className={cn("w-full justify-start text-left font-normal", !newAlertStart && "text-muted-foreground")}><CalendarIcon className="mr-2 h-4 w-4" />{newAlertStart ? format(newAlertStart, "PPP") : <span>Pick a date</span>}</Button></PopoverTrigger><PopoverContent className="w-auto p-0"><Calendar mode="single" selected={newAlertStart} onSelect={setNewAlertStart} initialFocus /></PopoverContent></Popover></div>
                             <div className="space-y-2"><Label>End Date</Label><Popover><PopoverTrigger asChild><Button variant={"outline"} className={cn("w-full justify-start text-left font-normal", !newAlertEnd && "text-muted-foreground")}><CalendarIcon className="mr-2 h-4 w-4" />{newAlertEnd ? format(newAlertEnd, "PPP") : <span>Pick a date</span>}</Button></PopoverTrigger><PopoverContent className="w-auto p-0"><Calendar mode="single" selected={newAlertEnd} onSelect={setNewAlertEnd} initialFocus /></PopoverContent></Popover></div>
                         </div>
+                        <div className="grid grid-cols-3 gap-4">
+                            <div className="space-y-2"><Label htmlFor="areaLat">Area Latitude</Label><Input id="areaLat" type="number" step="any" value={newAlertLat} onChange={(e) => setNewAlertLat(e.target.value)} placeholder="Everyone" /></div>
+                            <div className="space-y-2"><Label htmlFor="areaLng">Area Longitude</Label><Input id="areaLng" type="number" step="any" value={newAlertLng} onChange={(e) => setNewAlertLng(e.target.value)} /></div>
+                            <div className="space-y-2"><Label htmlFor="areaRadius">Radius (km)</Label><Input id="areaRadius" type="number" step="any" min="0" value={newAlertRadius} onChange={(e) => setNewAlertRadius(e.target.value)} /></div>
+                        </div>
                         <DialogFooter>
                             <DialogClose asChild><Button type="button" variant="outline" onClick={closeAndResetAlertModal}>Cancel</Button></DialogClose>
                             <Button type="submit">{editingAlert ? 'Save Changes' : 'Create Alert'}</Button>
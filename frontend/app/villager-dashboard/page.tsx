@@ -1,13 +1,13 @@
 "use client";
 
-import { useState, useEffect } from "react";
+import { useState, useEffect, useMemo, useRef } from "react";
 import { useRouter } from "next/navigation";
 import { useAuth } from "@/lib/auth-context";
 import { Button } from "@/components/ui/button";
 import { Card, CardContent, CardDescription, CardHeader, CardTitle } from "@/components/ui/card";
 import { Badge } from "@/components/ui/badge";
 import { SubmitRequestDialog } from "@/components/submit-request-dialog";
-import { getStatusColor, getEscalationLevelName, cn } from "@/lib/utils";
+import { getStatusColor, getEscalationLevelName, cn, alertCovers } from "@/lib/utils";
 import {
   Dialog,
   DialogContent,
@@ -51,6 +51,9 @@ export default function VillagerDashboard() {
   const [publicGrievances, setPublicGrievances] = useState<Grievance[]>([]);
   const [alerts, setAlerts] = useState<Alert[]>([]);
   const [isLoading, setIsLoading] = useState(true);
+  // Where the villager is; selects which geo-targeted alerts they get
+  const [location, setLocation] = useState<{ lat: number; lng: number } | null>(null);
+  const locationRef = useRef(location);
 
   const fetchData = async () => {
     if (!token) return;
@@ -91,7 +94,24 @@ export default function VillagerDashboard() {
     if (token) fetchData();
   }, [token]);
 
-  const handleGrievanceUpdate = (updatedGrievance: Grievance) => {
+  useEffect(() => {
+    if (!navigator.geolocation) return;
+    navigator.geolocation.getCurrentPosition(
+      (pos) => setLocation({ lat: pos.coords.latitude, lng: pos.coords.longitude }),
+      () => {} // Without a location only area-less alerts are pushed live
+    );
+  }, []);
+
+  useEffect(() => {
+    locationRef.current = location;
+  }, [location]);
+
+  // The server sends either a single grievance or a batch (e.g. after a bulk status update).
+  const handleGrievanceUpdate = (payload: Grievance | Grievance[]) => {
+    (Array.isArray(payload) ? payload : [payload]).forEach(applyGrievanceUpdate);
+  };
+
+  const applyGrievanceUpdate = (updatedGrievance: Grievance) => {
     setMyRequests((prev) => {
       const exists = prev.some((g) => g.id === updatedGrievance.id);
       if (exists) {
@@ -124,6 +144,11 @@ export default function VillagerDashboard() {
   const handleAlertUpdate = (updatedAlert: Alert) => {
     setAlerts((prev) => {
       const exists = prev.some((a) => a.id === updatedAlert.id);
+      const here = locationRef.current;
+      // A targeted alert whose area was moved away from us arrives one last time so we can drop it
+      if (!alertCovers(updatedAlert.area, here?.lat ?? null, here?.lng ?? null)) {
+        return prev.filter((a) => a.id !== updatedAlert.id);
+      }
       if (exists) {
         toast({ title: "Village Alert Updated", description: updatedAlert.title });
         return prev.map((a) => (a.id === updatedAlert.id ? updatedAlert : a));
@@ -136,8 +161,24 @@ export default function VillagerDashboard() {
     });
   };
 
-  useWebSocket("/topic/grievances", handleGrievanceUpdate, token);
+  // Removes a deleted grievance from both lists
+  const handleGrievanceDelete = (deletedId: number) => {
+    setMyRequests((prev) => prev.filter((g) => g.id !== deletedId));
+    setPublicGrievances((prev) => prev.filter((g) => g.id !== deletedId));
+  };
+
+  // Only this villager's own grievances are pushed; the public list comes from REST
+  useWebSocket("/user/queue/grievances", handleGrievanceUpdate, token);
+  useWebSocket("/user/queue/grievances/deleted", handleGrievanceDelete, token);
+  const locationMessage = useMemo(
+    () => (location ? { destination: "/app/alerts/location", body: { latitude: location.lat, longitude: location.lng } } : null),
+    [location]
+  );
+
+  const visibleAlerts = alerts.filter((a) => alertCovers(a.area, location?.lat ?? null, location?.lng ?? null));
+
   useWebSocket("/topic/alerts", handleAlertUpdate, token);
+  useWebSocket("/user/queue/alerts", handleAlertUpdate, token, locationMessage);
 
   const handleFormSubmit = async (requestData: {
     id?: number;
@@ -373,7 +414,8 @@ export default function VillagerDashboard() {
                                 <h4 className="font-semibold mb-1">Attached Image</h4>
                                 {req.fileUrl ? (
                                   <img
-                                    src={`${API_URL}${req.fileUrl}`}
+                                    src={`${API_URL}${req.mediumUrl ?? req.fileUrl}`}
+                                    loading="lazy"
                                     alt="Attached file"
                                     className="mt-2 rounded-md border max-h-60 w-full object-cover"
                                   />
@@ -434,8 +476,8 @@ export default function VillagerDashboard() {
                   Array.from({ length: 2 }).map((_, index) => (
                     <Skeleton key={index} className="h-12 w-full" />
                   ))
-                ) : alerts.length > 0 ? (
-                  alerts.map((alert) => (
+                ) : visibleAlerts.length > 0 ? (
+                  visibleAlerts.map((alert) => (
                     <Dialog key={alert.id}>
                       <DialogTrigger asChild>
                         <div className="flex items-center justify-between gap-3 rounded-lg p-3 text-sm cursor-pointer hover:bg-accent transition-colors w-full overflow-hidden">
@@ -8,9 +8,29 @@ const SOCKET_URL = process.env.NEXT_PUBLIC_API_URL
     ? `${process.env.NEXT_PUBLIC_API_URL}/ws` 
     : 'http://localhost:8080/ws';
 
-export const useWebSocket = (topic: string, onMessageReceived: (message: any) => void, token: string | null) => {
+// A message sent on connect (and again whenever it changes), e.g. the location that selects geo-targeted alerts
+export interface StompPublish {
+    destination: string;
+    body: unknown;
+}
+
+export const useWebSocket = (
+    topic: string,
+    onMessageReceived: (message: any) => void,
+    token: string | null,
+    publishOnConnect: StompPublish | null = null,
+) => {
     // Use a ref to hold the client instance so it persists across re-renders
     const clientRef = useRef<Client | null>(null);
+    const publishRef = useRef<StompPublish | null>(publishOnConnect);
+
+    // Re-send when the message changes without reconnecting
+    useEffect(() => {
+        publishRef.current = publishOnConnect;
+        if (publishOnConnect && clientRef.current?.connected) {
+            clientRef.current.publish({ destination: publishOnConnect.destination, body: JSON.stringify(publishOnConnect.body) });
+        }
+    }, [publishOnConnect]);
 
     useEffect(() => {
         // Don't do anything if we don't have a token.
@@ -32,6 +52,10 @@ export const useWebSocket = (topic: string, onMessageReceived: (message: any) =>
                             onMessageReceived(JSON.parse(message.body));
                         }
                     });
+                    const pending = publishRef.current;
+                    if (pending) {
+                        clientRef.current?.publish({ destination: pending.destination, body: JSON.stringify(pending.body) });
+                    }
                 },
                 onStompError: (frame) => {
                     console.error('Broker reported error: ' + frame.headers['message']);
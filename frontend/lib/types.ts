@@ -8,9 +8,13 @@ export interface Grievance {
   priority: "High" | "Medium" | "Low";
   category: string;
   createdAt: string;
-  submittedBy: string;
+  submittedBy: string | null; // null on grievances merged from the user's report but filed by someone else
   isOverdue: boolean;
   reportCount: number;
+  fileUrl?: string | null;
+  // Downscaled copies of the attachment; fall back to fileUrl while they are being generated
+  thumbnailUrl?: string | null;
+  mediumUrl?: string | null;
   escalationLevel: string;
   daysUntilEscalation: number;
 }
@@ -24,4 +28,14 @@ export interface Alert {
   startTime: string | null; // ISO Date String
   endTime: string | null;   // ISO Date String
   createdAt: string;
+  // Affected area; alerts without one go to everyone
+  area?: AlertArea | null;
+}
+
+export interface AlertArea {
+  type: "circle" | "polygon";
+  centerLat?: number | null;
+  centerLng?: number | null;
+  radiusKm?: number | null;
+  polygon?: [number, number][] | null; // [lat, lng] vertices
 }
\ No newline at end of file
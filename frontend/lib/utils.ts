@@ -2,6 +2,7 @@
 
 import { type ClassValue, clsx } from "clsx"
 import { twMerge } from "tailwind-merge"
+import type { AlertArea } from "@/lib/types"
 
 export function cn(...inputs: ClassValue[]) {
   return twMerge(clsx(inputs))
@@ -43,4 +44,28 @@ export const getEscalationLevelName = (level: number | null | undefined) => {
             return "Not Escalated";
     }
 };
-// highlight-end
\ No newline at end of file
+// highlight-end
+// Whether a geo-targeted alert covers a location. Alerts without an area, or an unknown location, count as covered.
+export const alertCovers = (area: AlertArea | null | undefined, lat: number | null, lng: number | null) => {
+    if (!area || lat == null || lng == null) return true;
+    if (area.type === "circle" && area.centerLat != null && area.centerLng != null && area.radiusKm != null) {
+        const toRad = (d: number) => (d * Math.PI) / 180;
+        const dLat = toRad(lat - area.centerLat);
+        const dLng = toRad(lng - area.centerLng);
+        const a = Math.sin(dLat / 2) ** 2
+            + Math.cos(toRad(area.centerLat)) * Math.cos(toRad(lat)) * Math.sin(dLng / 2) ** 2;
+        return 2 * 6371.0088 * Math.asin(Math.min(1, Math.sqrt(a))) <= area.radiusKm;
+    }
+    if (area.type === "polygon" && area.polygon && area.polygon.length >= 3) {
+        let inside = false;
+        const v = area.polygon;
+        for (let i = 0, j = v.length - 1; i < v.length; j = i++) {
+            if ((v[i][0] > lat) !== (v[j][0] > lat)
+                && lng < ((v[j][1] - v[i][1]) * (lat - v[i][0])) / (v[j][0] - v[i][0]) + v[i][1]) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+    return true;
+};